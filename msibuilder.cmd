@@ -48,6 +48,7 @@ jpackage ^
   --input "%INPUT_DIR%" ^
   --main-jar arkanoidfx.jar ^
   --main-class org.overb.arkanoidfx.ArkanoidApp ^
+  --java-options "--add-modules jdk.incubator.vector" ^
   --runtime-image build\runtime ^
   --win-menu ^
   --win-shortcut ^
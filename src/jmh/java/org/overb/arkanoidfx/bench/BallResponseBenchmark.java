@@ -0,0 +1,84 @@
+package org.overb.arkanoidfx.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.overb.arkanoidfx.game.physics.BallSystem;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// The velocity responses applied after an impact: the paddle reflection and the anti-trap clamp.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BallResponseBenchmark {
+
+    private static final int SAMPLES = 1024;
+    private static final double PADDLE_WIDTH = 160;
+
+    private final BenchWorld world = new BenchWorld();
+    private final BallSystem balls = BallSystem.getInstance();
+    private final double[] centerX = new double[SAMPLES];
+    private final double[] vx = new double[SAMPLES];
+    private final double[] vy = new double[SAMPLES];
+    private int slot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world.buildLevel(24, 18, 0.0, 0L);
+        world.spawnBalls(1, 5L);
+        slot = 0;
+        SplittableRandom random = new SplittableRandom(17L);
+        for (int i = 0; i < SAMPLES; i++) {
+            centerX[i] = BenchWorld.WIDTH / 2.0 + random.nextDouble(-PADDLE_WIDTH / 2.0, PADDLE_WIDTH / 2.0);
+            // every fourth sample is almost horizontal so that the clamp has work to do
+            double angle = i % 4 == 0 ? random.nextDouble(-0.05, 0.05) : random.nextDouble(0.2, Math.PI - 0.2);
+            double speed = BallSystem.BASE_SPEED * random.nextDouble(0.8, 2.0);
+            vx[i] = Math.cos(angle) * speed;
+            vy[i] = Math.abs(Math.sin(angle) * speed) + 1.0;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.tearDown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public double reflectFromPaddle() {
+        double sum = 0.0;
+        for (int i = 0; i < SAMPLES; i++) {
+            balls.setCenter(slot, centerX[i], 1000);
+            balls.setVelocity(slot, vx[i], vy[i]);
+            sum += balls.reflectFromPaddle(slot, BenchWorld.WIDTH / 2.0, PADDLE_WIDTH);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public double enforceMinVerticalComponent() {
+        double sum = 0.0;
+        for (int i = 0; i < SAMPLES; i++) {
+            balls.setVelocity(slot, vx[i], vy[i]);
+            balls.enforceMinVerticalComponent(slot);
+            sum += balls.getVelocityY(slot);
+        }
+        return sum;
+    }
+}
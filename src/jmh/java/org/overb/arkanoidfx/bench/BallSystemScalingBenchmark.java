@@ -0,0 +1,58 @@
+package org.overb.arkanoidfx.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.overb.arkanoidfx.enums.BallStepMode;
+import org.overb.arkanoidfx.game.physics.BallSystem;
+
+import java.util.concurrent.TimeUnit;
+
+// One 60 Hz frame of PARALLEL ball stepping on a full 24x18 level, from 1 worker to one per core.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BallSystemScalingBenchmark {
+
+    private static final double FRAME = 1.0 / 60.0;
+
+    @Param({"1", "2", "4", "8"})
+    public int workers;
+
+    @Param({"30", "100", "400"})
+    public int balls;
+
+    private final BenchWorld world = new BenchWorld();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world.build(24, 18, balls, 42L);
+        BallSystem.getInstance().setStepMode(BallStepMode.PARALLEL);
+        BallSystem.getInstance().setWorkers(workers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.tearDown();
+        BallSystem.getInstance().setStepMode(BallStepMode.SUBSTEPS);
+        BallSystem.getInstance().setWorkers(1);
+    }
+
+    @Benchmark
+    public void stepFrame() {
+        BallSystem.getInstance().step(FRAME);
+    }
+}
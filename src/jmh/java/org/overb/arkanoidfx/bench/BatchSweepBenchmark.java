@@ -0,0 +1,110 @@
+package org.overb.arkanoidfx.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.overb.arkanoidfx.enums.BrickSweepMode;
+import org.overb.arkanoidfx.game.physics.BrickGrid;
+import org.overb.arkanoidfx.game.physics.SweepHit;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Brick sweeps of 1024 rays: broadphase against the packed batch kernel, scalar and vectorized,
+// on a full 24x18 level and a 200x100 synthetic level.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class BatchSweepBenchmark {
+
+    private static final int RAYS = 1024;
+    private static final double RADIUS = 12.5;
+
+    @Param({"FULL_24x18", "SYNTHETIC_200x100"})
+    public String level;
+
+    @Param({"BROADPHASE", "BATCH_SCALAR", "BATCH_VECTOR"})
+    public String kernel;
+
+    // travel of one substep and of a whole frame at top speed, and a long probe
+    @Param({"4", "28", "600"})
+    public double distance;
+
+    private final BenchWorld world = new BenchWorld();
+    private final SweepHit hit = new SweepHit();
+    private final double[] originX = new double[RAYS];
+    private final double[] originY = new double[RAYS];
+    private final double[] dirX = new double[RAYS];
+    private final double[] dirY = new double[RAYS];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean full = level.startsWith("FULL");
+        if (full) {
+            world.buildLevel(24, 18);
+        } else {
+            world.buildLevel(200, 100, 0.6, 7L);
+        }
+        BrickGrid grid = BrickGrid.getInstance();
+        grid.setSweepMode(kernel.equals("BROADPHASE") ? BrickSweepMode.BROADPHASE : BrickSweepMode.BATCH);
+        grid.setBatchVectorized(kernel.equals("BATCH_VECTOR"));
+        if (kernel.equals("BATCH_VECTOR") && !grid.isBatchVectorized()) {
+            throw new IllegalStateException("the vector kernel is not available, build with -Pvector");
+        }
+        double gridW = grid.getCols() * grid.getCellW();
+        double gridH = grid.getRows() * grid.getCellH();
+        SplittableRandom random = new SplittableRandom(11L);
+        for (int i = 0; i < RAYS; i++) {
+            double x;
+            double y;
+            if (full) {
+                // below the wall of bricks, where the ball actually is
+                x = random.nextDouble(gridW);
+                y = gridH + RADIUS + random.nextDouble(300);
+            } else {
+                do {
+                    x = random.nextDouble(gridW);
+                    y = random.nextDouble(gridH);
+                } while (grid.get(grid.colAt(x), grid.rowAt(y)) != null);
+            }
+            double angle = random.nextDouble(Math.PI * 2);
+            originX[i] = x;
+            originY[i] = y;
+            dirX[i] = Math.cos(angle);
+            dirY[i] = Math.sin(angle);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.tearDown();
+        BrickGrid.getInstance().setSweepMode(BrickSweepMode.BROADPHASE);
+    }
+
+    @Benchmark
+    public double sweep() {
+        BrickGrid grid = BrickGrid.getInstance();
+        double sum = 0.0;
+        for (int i = 0; i < RAYS; i++) {
+            hit.reset();
+            grid.sweep(originX[i], originY[i], dirX[i], dirY[i], RADIUS, distance, hit);
+            if (hit.isHit()) {
+                sum += hit.distance;
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,112 @@
+package org.overb.arkanoidfx.bench;
+
+import org.overb.arkanoidfx.entities.BrickEntity;
+import org.overb.arkanoidfx.entities.SurpriseEntity;
+import org.overb.arkanoidfx.enums.EntityType;
+import org.overb.arkanoidfx.game.physics.BallSystem;
+import org.overb.arkanoidfx.game.physics.BrickGrid;
+import org.overb.arkanoidfx.game.physics.WallPlanes;
+import org.overb.arkanoidfx.game.sim.BrickView;
+import org.overb.arkanoidfx.game.sim.SimBall;
+import org.overb.arkanoidfx.game.sim.SimBrick;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Stand-in game world for the benchmarks: simulation bricks and balls, indestructible bricks
+// and a closed floor so that the balls keep bouncing for the whole measurement.
+public final class BenchWorld {
+
+    public static final double WIDTH = 1920;
+    public static final double HEIGHT = 1080;
+
+    private static final BrickView NO_VIEW = new BrickView() {
+        @Override
+        public void playSound(String name) {
+        }
+
+        @Override
+        public void showFrame(int frame) {
+        }
+
+        @Override
+        public void spawnSurprise(SurpriseEntity surprise) {
+        }
+
+        @Override
+        public void onDestroyed() {
+        }
+
+        @Override
+        public void onLevelCleared() {
+        }
+    };
+
+    private final List<SimBall> balls = new ArrayList<>();
+
+    public void build(int cols, int rows, int ballCount, long seed) {
+        buildLevel(cols, rows);
+        spawnBalls(ballCount, seed);
+    }
+
+    public void buildLevel(int cols, int rows) {
+        buildLevel(cols, rows, 1.0, 0L);
+    }
+
+    // fills the grid with indestructible bricks, each cell is occupied with the given probability
+    public void buildLevel(int cols, int rows, double density, long seed) {
+        WallPlanes walls = WallPlanes.getInstance();
+        walls.register(EntityType.WALL_LEFT, 0, 0, 2, HEIGHT);
+        walls.register(EntityType.WALL_RIGHT, WIDTH - 2, 0, 2, HEIGHT);
+        walls.register(EntityType.WALL_TOP, 0, -2, WIDTH, 2);
+        walls.unregister(EntityType.WALL_BOTTOM_SENSOR);
+        walls.register(EntityType.WALL_SAFETY, 0, HEIGHT - 8, WIDTH, 8);
+
+        double brickW = EntityType.BRICK.getDesignWidth();
+        double brickH = EntityType.BRICK.getDesignHeight();
+        BrickGrid grid = BrickGrid.getInstance();
+        grid.reset(cols, rows, brickW, brickH);
+        BrickEntity def = new BrickEntity();
+        def.hp = -1;
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (density < 1.0 && random.nextDouble() >= density) {
+                    continue;
+                }
+                grid.put(col, row, new SimBrick(def, null, null, random, col, row, NO_VIEW));
+            }
+        }
+    }
+
+    public void spawnBalls(int ballCount, long seed) {
+        BrickGrid grid = BrickGrid.getInstance();
+        double ballW = EntityType.BALL.getDesignWidth();
+        double ballH = EntityType.BALL.getDesignHeight();
+        double top = Math.min(grid.getRows() * grid.getCellH() + ballH, HEIGHT / 2.0);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < ballCount; i++) {
+            double x = 10 + random.nextDouble(WIDTH - 20 - ballW);
+            double y = top + random.nextDouble(HEIGHT - 20 - ballH - top);
+            SimBall ball = new SimBall(null, null, x, y, ballW, ballH);
+            double angle = random.nextDouble(Math.PI * 2);
+            double speed = BallSystem.BASE_SPEED * (1.0 + random.nextDouble());
+            BallSystem.getInstance().launchWithVelocity(ball.getSlot(), Math.cos(angle) * speed, Math.sin(angle) * speed);
+            balls.add(ball);
+        }
+    }
+
+    public List<SimBall> getBalls() {
+        return balls;
+    }
+
+    public void tearDown() {
+        for (SimBall ball : balls) {
+            ball.dispose();
+        }
+        balls.clear();
+        BrickGrid.getInstance().clear();
+        WallPlanes.getInstance().unregister(EntityType.WALL_SAFETY);
+    }
+}
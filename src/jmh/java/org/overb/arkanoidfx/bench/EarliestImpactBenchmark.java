@@ -0,0 +1,92 @@
+package org.overb.arkanoidfx.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.overb.arkanoidfx.enums.BrickSweepMode;
+import org.overb.arkanoidfx.game.physics.BallSystem;
+import org.overb.arkanoidfx.game.physics.BrickGrid;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// One ball's walls + paddle + bricks time of impact query, as used by every substep and event.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EarliestImpactBenchmark {
+
+    private static final int RAYS = 1024;
+
+    // EMPTY: no bricks, FULL: the 24x18 editor grid filled, DENSE: 48x26, 1248 bricks
+    @Param({"EMPTY", "FULL", "DENSE"})
+    public String layout;
+
+    @Param({"BRUTE_FORCE", "BROADPHASE", "GRID_TRAVERSAL", "BATCH"})
+    public String brickSweep;
+
+    // one substep, one frame at top speed
+    @Param({"4", "28"})
+    public double distance;
+
+    private final BenchWorld world = new BenchWorld();
+    private final BallSystem balls = BallSystem.getInstance();
+    private final double[] originX = new double[RAYS];
+    private final double[] originY = new double[RAYS];
+    private final double[] dirX = new double[RAYS];
+    private final double[] dirY = new double[RAYS];
+    private int slot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (layout) {
+            case "EMPTY" -> world.buildLevel(24, 18, 0.0, 0L);
+            case "FULL" -> world.buildLevel(24, 18);
+            default -> world.buildLevel(48, 26);
+        }
+        world.spawnBalls(1, 5L);
+        slot = 0;
+        BrickGrid grid = BrickGrid.getInstance();
+        grid.setSweepMode(BrickSweepMode.fromName(brickSweep));
+        double bricksBottom = grid.getRows() * grid.getCellH();
+        SplittableRandom random = new SplittableRandom(13L);
+        for (int i = 0; i < RAYS; i++) {
+            // the ball lives below the bricks, a few rays start right at the wall of bricks
+            originX[i] = random.nextDouble(20, BenchWorld.WIDTH - 20);
+            originY[i] = Math.min(BenchWorld.HEIGHT - 30, bricksBottom + 13 + random.nextDouble(i % 4 == 0 ? 20 : 400));
+            double angle = random.nextDouble(Math.PI * 2);
+            dirX[i] = Math.cos(angle);
+            dirY[i] = Math.sin(angle);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        world.tearDown();
+        BrickGrid.getInstance().setSweepMode(BrickSweepMode.BROADPHASE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RAYS)
+    public void findEarliestTOI() {
+        for (int i = 0; i < RAYS; i++) {
+            balls.setCenter(slot, originX[i], originY[i]);
+            balls.setVelocity(slot, dirX[i] * BallSystem.BASE_SPEED, dirY[i] * BallSystem.BASE_SPEED);
+            balls.findEarliestTOI(slot, dirX[i], dirY[i], distance);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.overb.arkanoidfx.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.overb.arkanoidfx.enums.EventType;
+import org.overb.arkanoidfx.game.core.EventBus;
+import org.overb.arkanoidfx.game.core.GameEvent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// HUD_UPDATE publishing with the three listeners the game has on the bus, through the synchronized
+// snapshot bus and the copy-on-write bus, from 1, 4 and 16 threads. Run with -prof gc to see the allocations.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+
+    private static final GameEvent EVENT = GameEvent.of(EventType.HUD_UPDATE);
+
+    private final Consumer<GameEvent>[] subscribers = newSubscribers();
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Consumer<GameEvent>[] newSubscribers() {
+        Consumer<GameEvent>[] result = new Consumer[3];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new Counter();
+        }
+        return result;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        for (Consumer<GameEvent> subscriber : subscribers) {
+            EventBus.subscribe(EventType.HUD_UPDATE, subscriber);
+            LegacyEventBus.subscribe(EventType.HUD_UPDATE, subscriber);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (Consumer<GameEvent> subscriber : subscribers) {
+            EventBus.unsubscribe(EventType.HUD_UPDATE, subscriber);
+            LegacyEventBus.unsubscribe(EventType.HUD_UPDATE, subscriber);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void legacy1() {
+        LegacyEventBus.publish(EVENT);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void legacy4() {
+        LegacyEventBus.publish(EVENT);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void legacy16() {
+        LegacyEventBus.publish(EVENT);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void copyOnWrite1() {
+        EventBus.publish(EVENT);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void copyOnWrite4() {
+        EventBus.publish(EVENT);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void copyOnWrite16() {
+        EventBus.publish(EVENT);
+    }
+
+    // racy on purpose, a shared atomic would turn the benchmark into a counter contention test
+    private static final class Counter implements Consumer<GameEvent> {
+        private long seen;
+
+        @Override
+        public void accept(GameEvent event) {
+            seen++;
+        }
+    }
+}
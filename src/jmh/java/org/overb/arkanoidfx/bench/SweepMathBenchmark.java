@@ -0,0 +1,65 @@
+package org.overb.arkanoidfx.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.overb.arkanoidfx.game.physics.SweepMath;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// The scalar swept circle vs box test on 1024 random ray/brick pairs, about half of them hits.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SweepMathBenchmark {
+
+    private static final int PAIRS = 1024;
+
+    private final double[] cx = new double[PAIRS];
+    private final double[] cy = new double[PAIRS];
+    private final double[] dirX = new double[PAIRS];
+    private final double[] dirY = new double[PAIRS];
+    private final double[] minX = new double[PAIRS];
+    private final double[] minY = new double[PAIRS];
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(3L);
+        for (int i = 0; i < PAIRS; i++) {
+            minX[i] = random.nextDouble(1840);
+            minY[i] = random.nextDouble(540);
+            cx[i] = minX[i] + 40 + random.nextDouble(-200, 200);
+            cy[i] = minY[i] + 15 + random.nextDouble(60, 300);
+            // aim at the brick, then spread so that roughly half of the rays miss
+            double angle = Math.atan2(minY[i] + 15 - cy[i], minX[i] + 40 - cx[i]) + random.nextDouble(-0.6, 0.6);
+            dirX[i] = Math.cos(angle);
+            dirY[i] = Math.sin(angle);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public double sweepCircleAgainstAABB() {
+        double sum = 0.0;
+        for (int i = 0; i < PAIRS; i++) {
+            double distance = SweepMath.sweepCircleAgainstAABB(cx[i], cy[i], dirX[i], dirY[i], 12.5,
+                    minX[i], minY[i], minX[i] + 80, minY[i] + 30);
+            if (distance != SweepMath.MISS) {
+                sum += distance;
+            }
+        }
+        return sum;
+    }
+}
@@ -21,26 +21,44 @@ import org.overb.arkanoidfx.components.BallComponent;
 import org.overb.arkanoidfx.components.DebugHitboxViewComponent;
 import org.overb.arkanoidfx.components.SurpriseComponent;
 import org.overb.arkanoidfx.entities.EntityRepository;
+import org.overb.arkanoidfx.enums.BallStepMode;
+import org.overb.arkanoidfx.enums.BrickRenderMode;
+import org.overb.arkanoidfx.enums.BrickSweepMode;
 import org.overb.arkanoidfx.enums.EntityType;
 import org.overb.arkanoidfx.enums.EventType;
+import org.overb.arkanoidfx.enums.HudRenderMode;
+import org.overb.arkanoidfx.enums.ProfilerSection;
 import org.overb.arkanoidfx.enums.Resolution;
 import org.overb.arkanoidfx.game.GameSession;
 import org.overb.arkanoidfx.game.LevelManager;
 import org.overb.arkanoidfx.game.ResolutionManager;
 import org.overb.arkanoidfx.game.SurpriseService;
 import org.overb.arkanoidfx.game.core.EventBus;
+import org.overb.arkanoidfx.game.core.FrameProfiler;
+import org.overb.arkanoidfx.game.core.FrameRecorder;
 import org.overb.arkanoidfx.game.core.GameEvent;
+import org.overb.arkanoidfx.game.jfr.SurpriseEvent;
+import org.overb.arkanoidfx.game.jmx.GameMBeans;
 import org.overb.arkanoidfx.game.loaders.DefinitionsLoader;
 import org.overb.arkanoidfx.game.loaders.LevelLoader;
+import org.overb.arkanoidfx.game.loaders.SpriteAtlasBuilder;
+import org.overb.arkanoidfx.game.physics.BallSystem;
+import org.overb.arkanoidfx.game.physics.BrickGrid;
 import org.overb.arkanoidfx.game.ui.*;
+import org.overb.arkanoidfx.game.world.AnimationSystem;
 import org.overb.arkanoidfx.game.world.BallFactory;
 import org.overb.arkanoidfx.game.world.PaddleFactory;
 import org.overb.arkanoidfx.game.world.WallsFactory;
 
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Log
 public class ArkanoidApp extends GameApplication {
+    // the pickup event is only created while a recording has it enabled
+    private static final jdk.jfr.EventType SURPRISE_EVENT = jdk.jfr.EventType.getEventType(SurpriseEvent.class);
     @Getter
     @Setter
     private static volatile boolean endStateMenuVisible = false;
@@ -57,6 +75,8 @@ public class ArkanoidApp extends GameApplication {
     private final GameSession session = new GameSession();
     private boolean hitboxDebugShown = false;
     private HUDManager hudManager;
+    private final EventStatsOverlay eventStatsOverlay = new EventStatsOverlay();
+    private final ProfilerOverlay profilerOverlay = new ProfilerOverlay();
     private BallFactory ballFactory;
     private WallsFactory wallsFactory;
     private PaddleFactory paddleFactory;
@@ -82,6 +102,7 @@ public class ArkanoidApp extends GameApplication {
     protected void initGame() {
         try {
             entityRepository = new DefinitionsLoader().loadAll();
+            new SpriteAtlasBuilder().build(entityRepository);
             log.info("Loaded defs: bricks=" + entityRepository.getBricks().size() +
                     ", surprises=" + entityRepository.getSurprises().size());
         } catch (Exception e) {
@@ -128,6 +149,9 @@ public class ArkanoidApp extends GameApplication {
             });
         });
         EventBus.subscribe(EventType.BALL_LOST, e -> processBallLost());
+        // game events are dispatched once per frame from onUpdate
+        EventBus.setDeferred(true);
+        GameMBeans.getInstance().register(session, levelManager::getCurrentLevelName);
 
         FXGL.getGameScene().setBackgroundColor(Color.BLACK);
         showMainMenu();
@@ -138,6 +162,9 @@ public class ArkanoidApp extends GameApplication {
             AudioMixer.getInstance().setMasterVolume(cfg.audio.master);
             AudioMixer.getInstance().setMusicVolume(cfg.audio.music);
             AudioMixer.getInstance().setSfxVolume(cfg.audio.sfx);
+            applyPhysicsConfig(cfg);
+            hudManager.setRenderMode(HudRenderMode.fromName(cfg.hud.renderer));
+            levelManager.setBrickRenderMode(BrickRenderMode.fromName(cfg.render.bricks));
             Resolution res = Resolution.getFromHeight(cfg.height);
             if ("FULLSCREEN".equalsIgnoreCase(cfg.fullscreenMode)) {
                 stage.setFullScreen(true);
@@ -153,6 +180,45 @@ public class ArkanoidApp extends GameApplication {
         }, javafx.util.Duration.millis(1));
     }
 
+    private void applyPhysicsConfig(ConfigOptions cfg) {
+        BrickGrid.getInstance().setSweepMode(BrickSweepMode.fromName(cfg.physics.brickSweep));
+        BallSystem.getInstance().setStepMode(BallStepMode.fromName(cfg.physics.ballStepping));
+        BallSystem.getInstance().setWorkers(cfg.physics.ballWorkers);
+    }
+
+    private void toggleFrameCapture() {
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        FrameRecorder recorder = profiler.getRecorder();
+        if (recorder != null) {
+            profiler.setRecorder(null);
+            recorder.close();
+            NotificationUI.show("Frame capture saved:\n" + recorder.getFile().getFileName());
+            return;
+        }
+        ConfigOptions cfg = ConfigIO.loadOrDefault();
+        BallSystem balls = BallSystem.getInstance();
+        String level = levelManager != null ? levelManager.getCurrentLevelName() : null;
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("level", String.valueOf(level));
+        tags.put("balls", Integer.toString(balls.getCount()));
+        tags.put("brickSweep", BrickGrid.getInstance().getSweepMode().name());
+        tags.put("ballStepping", balls.getStepMode().name());
+        tags.put("ballWorkers", Integer.toString(balls.getWorkers()));
+        tags.put("hudRenderer", cfg.hud.renderer);
+        tags.put("brickRenderer", cfg.render.bricks);
+        tags.put("display", cfg.width + "x" + cfg.height + " " + cfg.fullscreenMode);
+        tags.put("java", System.getProperty("java.version"));
+        tags.put("os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+        try {
+            recorder = FrameRecorder.create(ConfigIO.getConfigDir(), level, tags, balls::getCount);
+            profiler.setRecorder(recorder);
+            NotificationUI.show("Recording frame capture");
+        } catch (IOException e) {
+            log.warning("Cannot start frame capture: " + e.getMessage());
+            NotificationUI.show("Cannot record frame capture");
+        }
+    }
+
     private void processBallLost() {
         if (!FXGL.getGameWorld().getEntitiesByType(EntityType.BALL).isEmpty()) {
             return;
@@ -280,8 +346,21 @@ public class ArkanoidApp extends GameApplication {
 
     @Override
     protected void onUpdate(double tpf) {
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        profiler.onFrameStart();
+        long start = profiler.begin();
+        BallSystem.getInstance().step(tpf);
+        profiler.end(ProfilerSection.BALL_PHYSICS, start);
+        start = profiler.begin();
+        EventBus.drain();
+        profiler.end(ProfilerSection.EVENT_DISPATCH, start);
+        start = profiler.begin();
+        AnimationSystem.getInstance().tick(tpf);
+        profiler.end(ProfilerSection.ANIMATION, start);
         if (hudManager != null) {
+            start = profiler.begin();
             hudManager.onFrame();
+            profiler.end(ProfilerSection.HUD_REFRESH, start);
         }
     }
 
@@ -318,6 +397,13 @@ public class ArkanoidApp extends GameApplication {
                 );
             }
         });
+        // diagnostics
+        // show event bus metrics
+        FXGL.onKeyDown(KeyCode.F10, eventStatsOverlay::toggle);
+        // show frame time profiler
+        FXGL.onKeyDown(KeyCode.F11, profilerOverlay::toggle);
+        // start/stop recording a frame capture
+        FXGL.onKeyDown(KeyCode.F12, this::toggleFrameCapture);
         // cheats
         FXGL.onKeyDown(KeyCode.F8, () -> surpriseService.applyMultiball());
         FXGL.onKeyDown(KeyCode.F7, () -> surpriseService.applySafetyWall(10.0));
@@ -327,6 +413,13 @@ private void applySurprise(Entity surprise) {
     var sc = surprise.getComponentOptional(SurpriseComponent.class).orElse(null);
     String effect = sc != null ? sc.getEffect() : null;
     String sound = sc != null ? sc.getSound() : null;
+    if (SURPRISE_EVENT.isEnabled()) {
+        SurpriseEvent event = new SurpriseEvent();
+        event.action = "pickup";
+        event.effect = effect;
+        event.surprise = sc != null ? sc.getName() : null;
+        event.commit();
+    }
     SfxBus.getInstance().play(sound);
     if ("multiball".equalsIgnoreCase(effect)) {
         var balls = FXGL.getGameWorld().getEntitiesByType(EntityType.BALL);
@@ -351,6 +444,7 @@ private void onPauseToggle() {
     if (!paused) {
         paused = true;
         FXGL.getGameController().pauseEngine();
+        FrameProfiler.getInstance().onFramesSkipped();
         showPauseMenu();
     } else {
         resumeFromPause();
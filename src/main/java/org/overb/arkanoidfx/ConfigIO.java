@@ -35,7 +35,7 @@ public class ConfigIO {
         }
     }
 
-    private static Path getConfigPath() throws IOException {
+    public static Path getConfigDir() throws IOException {
         Path configDir = Paths.get(
                 System.getProperty("os.name").toLowerCase().contains("win")
                         ? System.getenv("APPDATA")
@@ -43,6 +43,10 @@ public class ConfigIO {
                 "org.overb.ArkanoidFX"
         );
         Files.createDirectories(configDir);
-        return configDir.resolve("settings.json");
+        return configDir;
+    }
+
+    private static Path getConfigPath() throws IOException {
+        return getConfigDir().resolve("settings.json");
     }
 }
@@ -8,10 +8,27 @@ public class ConfigOptions {
     public int nativeH = 1080;
 
     public AudioCfg audio = new AudioCfg();
+    public PhysicsCfg physics = new PhysicsCfg();
+    public HudCfg hud = new HudCfg();
+    public RenderCfg render = new RenderCfg();
 
     public static class AudioCfg {
         public double master = 1.0;
         public double music = 0.7;
         public double sfx = 0.8;
     }
+
+    public static class PhysicsCfg {
+        public String brickSweep = "BROADPHASE";
+        public String ballStepping = "SUBSTEPS";
+        public int ballWorkers = 0;
+    }
+
+    public static class HudCfg {
+        public String renderer = "TEXT";
+    }
+
+    public static class RenderCfg {
+        public String bricks = "ENTITIES";
+    }
 }
@@ -2,6 +2,7 @@ package org.overb.arkanoidfx.audio;
 
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
+import org.overb.arkanoidfx.game.jfr.MusicSwitchEvent;
 
 import java.net.URL;
 import java.util.Objects;
@@ -22,22 +23,30 @@ public final class MusicBus {
             refreshVolume();
             return;
         }
+        MusicSwitchEvent event = new MusicSwitchEvent();
+        event.begin();
+        event.track = name;
         stop();
         try {
             URL musicFile = Objects.requireNonNull(
                     Thread.currentThread().getContextClassLoader().getResource(BASE + name),
                     "Music not found on classpath: " + BASE + name
             );
+            if (event.shouldCommit()) {
+                event.bytesLoaded = musicFile.openConnection().getContentLengthLong();
+            }
             Media media = new Media(musicFile.toExternalForm());
             current = new MediaPlayer(media);
             current.setCycleCount(MediaPlayer.INDEFINITE);
             current.setVolume(AudioMixer.getInstance().getEffectiveMusicVolume());
             current.play();
             currentKey = name;
+            event.started = true;
         } catch (Exception e) {
             current = null;
             currentKey = null;
         }
+        event.commit();
     }
 
     public void stop() {
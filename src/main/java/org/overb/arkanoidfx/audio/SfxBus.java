@@ -4,6 +4,7 @@ import javafx.scene.media.AudioClip;
 
 import java.net.URL;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -31,6 +32,19 @@ public final class SfxBus {
         }
     }
 
+    public int getPooledSounds() {
+        return pool.size();
+    }
+
+    // clips per sound name, sounds that failed to load have none
+    public Map<String, Integer> getPoolSizes() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        for (Map.Entry<String, AudioClip[]> e : pool.entrySet()) {
+            sizes.put(e.getKey(), e.getValue() == null ? 0 : e.getValue().length);
+        }
+        return sizes;
+    }
+
     private int nextIndex(String key) {
         int next = (rrIndex.getOrDefault(key, -1) + 1) % CHANNELS;
         rrIndex.put(key, next);
@@ -1,51 +1,51 @@
 package org.overb.arkanoidfx.components;
 
-import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.entity.component.Component;
 import com.almasb.fxgl.texture.Texture;
-import com.almasb.fxgl.time.TimerAction;
-import javafx.geometry.Rectangle2D;
-import javafx.util.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.overb.arkanoidfx.entities.Sprite;
+import org.overb.arkanoidfx.game.world.AnimationHost;
+import org.overb.arkanoidfx.game.world.AnimationSystem;
+import org.overb.arkanoidfx.game.world.PooledComponent;
 
-public class BallAnimComponent extends Component {
+// Looping sprite animation of a pooled ball or surprise, restarted from the first frame on every use.
+public class BallAnimComponent extends Component implements AnimationHost, PooledComponent {
 
+    @Getter
     private final Texture texture;
-    private final int frames;
-    private final int frameW;
-    private final int frameH;
-    private final double frameDurationSec;
-    private int currentFrame = 0;
-    private TimerAction action;
-
-    public BallAnimComponent(Texture texture, int frames, int frameW, int frameH, double frameDurationSec) {
+    // swapped while the entity is in the pool, when it is reused for another surprise
+    @Setter
+    private Sprite sprite;
+    private int animationSlot = -1;
+
+    public BallAnimComponent(Texture texture, Sprite sprite) {
         this.texture = texture;
-        this.frames = Math.max(1, frames);
-        this.frameW = Math.max(1, frameW);
-        this.frameH = Math.max(1, frameH);
-        this.frameDurationSec = frameDurationSec > 0 ? frameDurationSec : 0.0;
+        this.sprite = sprite;
+    }
+
+    @Override
+    public void onAcquired() {
+        AnimationSystem.getInstance().register(this, texture, sprite, sprite.frameDuration, true);
     }
 
     @Override
-    public void onAdded() {
-        applyFrame(0);
-        if (frames > 1 && frameDurationSec > 0) {
-            action = FXGL.getGameTimer().runAtInterval(() -> {
-                currentFrame = (currentFrame + 1) % frames;
-                applyFrame(currentFrame);
-            }, Duration.seconds(frameDurationSec));
-        }
+    public void onReleased() {
+        AnimationSystem.getInstance().unregister(this);
     }
 
     @Override
     public void onRemoved() {
-        if (action != null) {
-            action.expire();
-            action = null;
-        }
+        AnimationSystem.getInstance().unregister(this);
     }
 
-    private void applyFrame(int frameIndex) {
-        double x = (double) frameIndex * frameW;
-        texture.setViewport(new Rectangle2D(x, 0, frameW, frameH));
+    @Override
+    public int getAnimationSlot() {
+        return animationSlot;
+    }
+
+    @Override
+    public void assignAnimationSlot(int slot) {
+        this.animationSlot = slot;
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package org.overb.arkanoidfx.components;
+
+import com.almasb.fxgl.entity.component.Component;
+import com.almasb.fxgl.texture.Texture;
+import org.overb.arkanoidfx.entities.Sprite;
+import org.overb.arkanoidfx.game.world.AnimationHost;
+import org.overb.arkanoidfx.game.world.AnimationSystem;
+import org.overb.arkanoidfx.game.world.TexturePool;
+
+// Plays a brick break animation once and removes the entity after its last frame.
+// The texture comes from the TexturePool and goes back to it with the entity.
+public class BreakAnimComponent extends Component implements AnimationHost {
+
+    private static final double DEFAULT_FRAME_DURATION = 0.05;
+
+    private final Texture texture;
+    private final Sprite sprite;
+    private int animationSlot = -1;
+
+    public BreakAnimComponent(Texture texture, Sprite sprite) {
+        this.texture = texture;
+        this.sprite = sprite;
+    }
+
+    @Override
+    public void onAdded() {
+        double frameDuration = sprite.frameDuration > 0 ? sprite.frameDuration : DEFAULT_FRAME_DURATION;
+        AnimationSystem.getInstance().register(this, texture, sprite, frameDuration, false);
+    }
+
+    @Override
+    public void onRemoved() {
+        AnimationSystem.getInstance().unregister(this);
+        TexturePool.getInstance().release(texture);
+    }
+
+    @Override
+    public void onAnimationFinished() {
+        if (entity != null && entity.isActive()) {
+            entity.removeFromWorld();
+        }
+    }
+
+    @Override
+    public int getAnimationSlot() {
+        return animationSlot;
+    }
+
+    @Override
+    public void assignAnimationSlot(int slot) {
+        this.animationSlot = slot;
+    }
+}
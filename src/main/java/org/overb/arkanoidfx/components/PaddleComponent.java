@@ -5,8 +5,9 @@ import com.almasb.fxgl.entity.component.Component;
 import javafx.geometry.Point2D;
 import javafx.util.Duration;
 import org.overb.arkanoidfx.game.ResolutionManager;
+import org.overb.arkanoidfx.game.physics.Body;
 
-public class PaddleComponent extends Component {
+public class PaddleComponent extends Component implements Body {
 
     private enum Phase {NONE, DOWN, UP}
 
@@ -97,6 +98,31 @@ public class PaddleComponent extends Component {
         }
     }
 
+    @Override
+    public double getX() {
+        return entity.getX();
+    }
+
+    @Override
+    public double getY() {
+        return entity.getY();
+    }
+
+    @Override
+    public double getWidth() {
+        return entity.getWidth();
+    }
+
+    @Override
+    public double getHeight() {
+        return entity.getHeight();
+    }
+
+    @Override
+    public boolean isActive() {
+        return entity != null && entity.isActive();
+    }
+
     public void onBallHit() {
         double downTarget = yFixed + pushDownPixels;
         double currentY = entity.getY();
@@ -2,11 +2,14 @@ package org.overb.arkanoidfx.components;
 
 import com.almasb.fxgl.entity.component.Component;
 import javafx.geometry.Point2D;
+import lombok.Setter;
 import org.overb.arkanoidfx.entities.SurpriseEntity;
 
 public class SurpriseComponent extends Component {
 
-    private final SurpriseEntity surpriseDefinition;
+    // surprise entities are pooled and take on the definition of the next drop
+    @Setter
+    private SurpriseEntity surpriseDefinition;
 
     public SurpriseComponent(SurpriseEntity surpriseDefinition) {
         this.surpriseDefinition = surpriseDefinition;
@@ -25,6 +28,10 @@ public class SurpriseComponent extends Component {
         return surpriseDefinition.effect;
     }
 
+    public String getName() {
+        return surpriseDefinition.name;
+    }
+
     public String getSound() {
         return surpriseDefinition.sound;
     }
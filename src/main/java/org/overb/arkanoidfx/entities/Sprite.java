@@ -1,5 +1,6 @@
 package org.overb.arkanoidfx.entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -9,4 +10,48 @@ public class Sprite {
     public int frameW;
     public int frameH;
     public double frameDuration;
-}
\ No newline at end of file
+    // top left of the frame strip in the sheet, moved when the sheet is packed into an atlas
+    @JsonIgnore
+    public int originX;
+    @JsonIgnore
+    public int originY;
+    // left edge of every frame in the sheet, the views build their viewports from it
+    @JsonIgnore
+    private double[] frameOffsets;
+
+    // rebuilt whenever the origin moves
+    public void computeFrameOffsets() {
+        int count = Math.max(1, frames);
+        double[] offsets = new double[count];
+        for (int i = 0; i < count; i++) {
+            offsets[i] = originX + (double) i * frameWidth();
+        }
+        frameOffsets = offsets;
+    }
+
+    public int frameCount() {
+        if (frameOffsets == null) {
+            computeFrameOffsets();
+        }
+        return frameOffsets.length;
+    }
+
+    public double frameX(int frame) {
+        if (frameOffsets == null) {
+            computeFrameOffsets();
+        }
+        return frameOffsets[Math.max(0, Math.min(frameOffsets.length - 1, frame))];
+    }
+
+    public double frameY() {
+        return originY;
+    }
+
+    public int frameWidth() {
+        return Math.max(1, frameW);
+    }
+
+    public int frameHeight() {
+        return Math.max(1, frameH);
+    }
+}
@@ -0,0 +1,16 @@
+package org.overb.arkanoidfx.enums;
+
+public enum BallStepMode {
+    SUBSTEPS,
+    EVENT_DRIVEN,
+    PARALLEL;
+
+    public static BallStepMode fromName(String name) {
+        for (BallStepMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(name)) {
+                return mode;
+            }
+        }
+        return SUBSTEPS;
+    }
+}
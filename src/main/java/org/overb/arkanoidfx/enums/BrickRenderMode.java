@@ -0,0 +1,17 @@
+package org.overb.arkanoidfx.enums;
+
+public enum BrickRenderMode {
+    // one FXGL entity with its own Group and Texture per brick
+    ENTITIES,
+    // static bricks drawn into one Canvas, only changed cells are redrawn
+    BAKED;
+
+    public static BrickRenderMode fromName(String name) {
+        for (BrickRenderMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(name)) {
+                return mode;
+            }
+        }
+        return ENTITIES;
+    }
+}
@@ -0,0 +1,17 @@
+package org.overb.arkanoidfx.enums;
+
+public enum BrickSweepMode {
+    BRUTE_FORCE,
+    BROADPHASE,
+    GRID_TRAVERSAL,
+    BATCH;
+
+    public static BrickSweepMode fromName(String name) {
+        for (BrickSweepMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(name)) {
+                return mode;
+            }
+        }
+        return BROADPHASE;
+    }
+}
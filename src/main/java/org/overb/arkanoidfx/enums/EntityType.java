@@ -6,6 +6,8 @@ public enum EntityType {
     PADDLE(200, 30),
     BALL(25, 25),
     BRICK(80, 30),
+    // baked brick canvas and break animations, brick visuals without a BrickComponent
+    BRICK_VISUAL(80, 30),
     SURPRISE(30, 30),
     WALL_LEFT(10, 1080),
     WALL_RIGHT(10, 1080),
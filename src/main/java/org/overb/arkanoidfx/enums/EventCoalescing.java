@@ -0,0 +1,8 @@
+package org.overb.arkanoidfx.enums;
+
+public enum EventCoalescing {
+    // every queued event is dispatched
+    KEEP_ALL,
+    // only the latest queued event of the type is dispatched
+    KEEP_LAST
+}
@@ -0,0 +1,17 @@
+package org.overb.arkanoidfx.enums;
+
+public enum HudRenderMode {
+    // one Text node with a DropShadow per field
+    TEXT,
+    // pre-rendered glyphs blitted onto a single Canvas, for software rendering
+    CANVAS;
+
+    public static HudRenderMode fromName(String name) {
+        for (HudRenderMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(name)) {
+                return mode;
+            }
+        }
+        return TEXT;
+    }
+}
@@ -0,0 +1,9 @@
+package org.overb.arkanoidfx.enums;
+
+public enum ProfilerSection {
+    BALL_PHYSICS,
+    BRICK_HITS,
+    EVENT_DISPATCH,
+    ANIMATION,
+    HUD_REFRESH
+}
@@ -1,62 +1,144 @@
 package org.overb.arkanoidfx.game;
 
 import com.almasb.fxgl.dsl.EntityBuilder;
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.entity.components.CollidableComponent;
 import com.almasb.fxgl.physics.BoundingShape;
 import com.almasb.fxgl.physics.HitBox;
 import com.almasb.fxgl.texture.Texture;
 import javafx.geometry.Point2D;
 import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
+import lombok.extern.java.Log;
 import org.overb.arkanoidfx.components.BrickComponent;
 import org.overb.arkanoidfx.entities.BrickEntity;
 import org.overb.arkanoidfx.entities.EntityRepository;
 import org.overb.arkanoidfx.entities.LevelEntity;
+import org.overb.arkanoidfx.enums.BrickRenderMode;
 import org.overb.arkanoidfx.enums.EntityType;
+import org.overb.arkanoidfx.game.jfr.BrickBuildEvent;
+import org.overb.arkanoidfx.game.physics.BrickGrid;
+import org.overb.arkanoidfx.game.world.BakedBrickLayer;
+import org.overb.arkanoidfx.game.world.BakedBrickView;
 import org.overb.arkanoidfx.game.world.SurpriseFactory;
+import org.overb.arkanoidfx.util.ImageCache;
 import org.overb.arkanoidfx.util.TextureUtils;
 
+import java.util.logging.Level;
+
+@Log
 public class LevelBuilder {
 
     private final EntityRepository entityDefinitions;
     private final GameSession session;
     private final SurpriseFactory surpriseFactory;
+    private final BrickRenderMode renderMode;
     private double brickW;
     private double brickH;
 
-    public LevelBuilder(EntityRepository entityDefinitions, GameSession session) {
+    public LevelBuilder(EntityRepository entityDefinitions, GameSession session, SurpriseFactory surpriseFactory, BrickRenderMode renderMode) {
         this.entityDefinitions = entityDefinitions;
         this.session = session;
-        this.surpriseFactory = new SurpriseFactory();
+        this.surpriseFactory = surpriseFactory;
+        this.renderMode = renderMode;
     }
 
     public void buildBricks(LevelEntity level) {
+        BrickBuildEvent event = new BrickBuildEvent();
+        event.begin();
         brickW = EntityType.BRICK.getDesignWidth();
         brickH = EntityType.BRICK.getDesignHeight();
+        int cols = level.cols;
+        int rows = level.rows;
+        for (LevelEntity.Cell cell : level.cells) {
+            cols = Math.max(cols, cell.col + 1);
+            rows = Math.max(rows, cell.row + 1);
+        }
+        BrickGrid grid = BrickGrid.getInstance();
+        grid.reset(cols, rows, brickW, brickH);
+        BakedBrickLayer layer = null;
+        if (renderMode == BrickRenderMode.BAKED) {
+            layer = new BakedBrickLayer(cols, rows, brickW, brickH);
+            new EntityBuilder()
+                    .type(EntityType.BRICK_VISUAL)
+                    .at(0, 0)
+                    .view(layer.getCanvas())
+                    .buildAndAttach();
+        }
         for (LevelEntity.Cell cell : level.cells) {
             BrickEntity def = entityDefinitions.getBrick(cell.brickId);
             if (def == null) {
                 continue;
             }
+            if (!grid.contains(cell.col, cell.row) || grid.get(cell.col, cell.row) != null) {
+                // one brick per cell, duplicates and negative coordinates are editor leftovers
+                continue;
+            }
+            if (layer != null && !def.animated) {
+                BakedBrickView baked = new BakedBrickView(def, session, entityDefinitions, surpriseFactory, layer, cell.col, cell.row, brickW, brickH);
+                layer.put(cell.col, cell.row, def.visual, ImageCache.getInstance().get(def.visual.sprite));
+                grid.put(cell.col, cell.row, baked.getBrick());
+                if (def.hp != -1) {
+                    session.registerDestructibleBrick();
+                }
+                continue;
+            }
             double x = cell.col * brickW;
             double y = cell.row * brickH;
             var viewPair = buildBrickView(def);
             Group viewRoot = viewPair.root;
             Texture texture = viewPair.texture;
+            BrickComponent brick = new BrickComponent(def, session, texture, entityDefinitions, surpriseFactory, cell.col, cell.row);
             new EntityBuilder()
                     .type(EntityType.BRICK)
                     .at(x, y)
                     .view(viewRoot)
                     .bbox(new HitBox(new Point2D(0, 0), BoundingShape.box(brickW, brickH)))
                     .with(new CollidableComponent(true))
-                    .with(new BrickComponent(def, session, texture, entityDefinitions, surpriseFactory))
+                    .with(brick)
                     .buildAndAttach()
                     .getTransformComponent().setScaleOrigin(new Point2D(0, 0));
+            grid.put(cell.col, cell.row, brick.getBrick());
             if (def.hp != -1) {
                 session.registerDestructibleBrick();
             }
         }
+        // walking the scene graph is only worth it while a recording or the debug log looks at the result
+        if (event.shouldCommit()) {
+            event.cols = cols;
+            event.rows = rows;
+            event.cells = level.cells.size();
+            event.bricks = grid.getLiveCount();
+            event.renderer = renderMode.name();
+            event.sceneNodes = countBrickNodes();
+            event.commit();
+        }
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("Bricks: " + grid.getLiveCount() + " drawn with " + countBrickNodes() + " scene nodes (" + renderMode + ")");
+        }
+    }
+
+    // the nodes Prism has to walk for the bricks, including each entity's own view root
+    private static int countBrickNodes() {
+        int nodes = 0;
+        for (Entity entity : FXGL.getGameWorld().getEntitiesByType(EntityType.BRICK, EntityType.BRICK_VISUAL)) {
+            nodes += countNodes(entity.getViewComponent().getParent());
+        }
+        return nodes;
+    }
+
+    private static int countNodes(Node node) {
+        int nodes = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                nodes += countNodes(child);
+            }
+        }
+        return nodes;
     }
 
     private record ViewPair(Group root, Texture texture) {
@@ -65,7 +147,7 @@ public class LevelBuilder {
     private ViewPair buildBrickView(BrickEntity def) {
         Group root = new Group();
         root.setAutoSizeChildren(false);
-        Texture tex = TextureUtils.loadTextureOrNull(def.visual.sprite, brickW, brickH, Math.max(1, def.visual.frameW), Math.max(1, def.visual.frameH));
+        Texture tex = TextureUtils.loadTextureOrNull(def.visual, brickW, brickH);
         if (tex != null) {
             root.getChildren().add(tex);
             return new ViewPair(root, tex);
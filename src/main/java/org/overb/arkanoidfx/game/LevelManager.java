@@ -13,12 +13,19 @@ import org.overb.arkanoidfx.audio.LevelMusicService;
 import org.overb.arkanoidfx.audio.MusicBus;
 import org.overb.arkanoidfx.entities.EntityRepository;
 import org.overb.arkanoidfx.entities.LevelEntity;
+import org.overb.arkanoidfx.enums.BrickRenderMode;
 import org.overb.arkanoidfx.enums.EntityType;
+import org.overb.arkanoidfx.game.core.FrameProfiler;
+import org.overb.arkanoidfx.game.jfr.LevelLoadEvent;
 import org.overb.arkanoidfx.game.loaders.LevelLoader;
+import org.overb.arkanoidfx.game.physics.BrickGrid;
+import org.overb.arkanoidfx.game.physics.WallPlanes;
 import org.overb.arkanoidfx.game.ui.*;
 import org.overb.arkanoidfx.game.world.BallFactory;
 import org.overb.arkanoidfx.game.world.PaddleFactory;
+import org.overb.arkanoidfx.game.world.SurpriseFactory;
 import org.overb.arkanoidfx.game.world.WallsFactory;
+import org.overb.arkanoidfx.util.ImageCache;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -39,10 +46,13 @@ public final class LevelManager {
     private final PaddleFactory paddleFactory;
     private final BallFactory ballFactory;
     private final LevelLoader levelLoader;
+    private final SurpriseFactory surpriseFactory = new SurpriseFactory();
     @Setter
     private boolean customLevelsFromFileSystem = false;
     @Setter
     private MenuReturnHandler menuReturnHandler;
+    @Setter
+    private BrickRenderMode brickRenderMode = BrickRenderMode.ENTITIES;
 
     private List<String> levelOrder;
     private int currentLevelIndex = 0;
@@ -62,12 +72,14 @@ public final class LevelManager {
     public void quitToMainMenuNoDialog() {
         LevelMusicService.getInstance().stopCurrentMusic();
         FXGL.getGameWorld().getEntitiesByType(
-                EntityType.BALL, EntityType.SURPRISE, EntityType.BRICK, EntityType.WALL_SAFETY, EntityType.PADDLE
+                EntityType.BALL, EntityType.SURPRISE, EntityType.BRICK, EntityType.BRICK_VISUAL, EntityType.WALL_SAFETY, EntityType.PADDLE
         ).forEach(e -> {
             if (e.isActive()) {
                 e.removeFromWorld();
             }
         });
+        BrickGrid.getInstance().clear();
+        WallPlanes.getInstance().unregister(EntityType.WALL_SAFETY);
         session.resetForNewGame();
         currentLevelIndex = 0;
         returnToMainMenu();
@@ -88,6 +100,13 @@ public final class LevelManager {
         this.currentLevelIndex = 0;
     }
 
+    public String getCurrentLevelName() {
+        if (levelOrder == null || currentLevelIndex < 0 || currentLevelIndex >= levelOrder.size()) {
+            return null;
+        }
+        return levelOrder.get(currentLevelIndex);
+    }
+
     public void startInitialLevel() {
         if (levelOrder == null || levelOrder.isEmpty()) {
             throw new IllegalStateException("Level order is not set or empty");
@@ -117,6 +136,7 @@ public final class LevelManager {
         cleanupLevelEntities();
         LevelMusicService.getInstance().stopCurrentMusic();
         FXGL.getGameController().pauseEngine();
+        FrameProfiler.getInstance().onFramesSkipped();
         hudManager.hide();
         MouseUI.setMouseVisible(true);
         ArkanoidApp.setEndStateMenuVisible(true);
@@ -186,6 +206,7 @@ public final class LevelManager {
         cleanupLevelEntities();
         LevelMusicService.getInstance().stopCurrentMusic();
         FXGL.getGameController().pauseEngine();
+        FrameProfiler.getInstance().onFramesSkipped();
         hudManager.hide();
         MouseUI.setMouseVisible(true);
         ArkanoidApp.setEndStateMenuVisible(true);
@@ -202,16 +223,27 @@ public final class LevelManager {
 
     private void cleanupLevelEntities() {
         FXGL.getGameWorld().getEntitiesByType(
-                EntityType.BALL, EntityType.SURPRISE, EntityType.BRICK, EntityType.WALL_SAFETY, EntityType.PADDLE
+                EntityType.BALL, EntityType.SURPRISE, EntityType.BRICK, EntityType.BRICK_VISUAL, EntityType.WALL_SAFETY, EntityType.PADDLE
         ).forEach(e -> {
             if (e.isActive()) e.removeFromWorld();
         });
+        BrickGrid.getInstance().clear();
+        WallPlanes.getInstance().unregister(EntityType.WALL_SAFETY);
     }
 
     private void loadAndStart() {
+        LevelLoadEvent event = new LevelLoadEvent();
+        event.begin();
+        event.level = levelOrder.get(currentLevelIndex);
+        event.loaded = startLevel(event.level);
+        event.bricks = BrickGrid.getInstance().getLiveCount();
+        event.destructibleBricks = session.getDestructibleBricksLeft();
+        event.commit();
+    }
+
+    private boolean startLevel(String levelFileName) {
         session.setCurrentLevel(currentLevelIndex + 1);
         MouseUI.setMouseVisible(false);
-        String levelFileName = levelOrder.get(currentLevelIndex);
         FXGL.getGameScene().clearUINodes();
         try {
             FXGL.getGameScene().getRoot().setBackground(null);
@@ -219,6 +251,7 @@ public final class LevelManager {
         } catch (Exception ignored) {
         }
         session.resetLevel();
+        ImageCache.getInstance().clear();
         LevelEntity level;
         try {
             Path p = Paths.get(levelFileName);
@@ -228,7 +261,7 @@ public final class LevelManager {
                 } else {
                     log.warning("Custom level file not found on disk: " + levelFileName);
                     showMissingLevelAndReturn(levelFileName);
-                    return;
+                    return false;
                 }
             } else {
                 // classpath levels and absolute paths
@@ -242,16 +275,17 @@ public final class LevelManager {
             log.severe("Failed to load level: " + levelFileName + " : " + ex.getMessage());
             NotificationUI.show("Failed to load level:\n" + levelFileName);
             quitToMainMenuNoDialog();
-            return;
+            return false;
         }
         currentLevel = level;
         log.info("Loaded level: " + levelFileName + " (" + level.cols + "x" + level.rows + "), music=" + level.music + ", background=" + level.background);
         applyLevelBackground(level);
-        new LevelBuilder(repository, session).buildBricks(level);
+        new LevelBuilder(repository, session, surpriseFactory, brickRenderMode).buildBricks(level);
         hudManager.initHUD();
         hudManager.refresh(session);
         wallsFactory.spawnWalls();
         spawnPaddleAndBall();
+        return true;
     }
 
     private void applyLevelBackground(LevelEntity level) {
@@ -13,6 +13,8 @@ import java.util.List;
 
 public final class SurpriseService {
 
+    private static final int MAX_BALLS = 100;
+
     private final BallFactory ballFactory;
     private final WallsFactory wallsFactory;
 
@@ -24,7 +26,7 @@ public final class SurpriseService {
     public void applyMultiball() {
         // Snapshot current balls to avoid chain-spawning from newly created balls within the same frame
         List<Entity> balls = new ArrayList<>(FXGL.getGameWorld().getEntitiesByType(EntityType.BALL));
-        if (balls.isEmpty() || balls.size() >= 30) {
+        if (balls.isEmpty() || balls.size() >= MAX_BALLS) {
             return;
         }
 
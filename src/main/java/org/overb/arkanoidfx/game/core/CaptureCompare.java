@@ -0,0 +1,137 @@
+package org.overb.arkanoidfx.game.core;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Compares two frame captures written by FrameRecorder and reports the percentile shifts per column.
+// Arguments: <baseline.csv> <candidate.csv> [max p99 frame time regression in percent, default 10]
+// Exits with 2 when the candidate's p99 frame time regressed by more than the limit.
+public final class CaptureCompare {
+
+    private static final double[] PERCENTILES = {0.50, 0.90, 0.95, 0.99, 0.999, 1.0};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p95", "p99", "p99.9", "max"};
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("usage: CaptureCompare <baseline.csv> <candidate.csv> [max p99 regression %]");
+            System.exit(1);
+        }
+        double limit = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Capture baseline = Capture.read(Path.of(args[0]));
+        Capture candidate = Capture.read(Path.of(args[1]));
+
+        System.out.println("baseline:  " + args[0] + " " + baseline.tags);
+        System.out.println("candidate: " + args[1] + " " + candidate.tags);
+        System.out.printf("frames: %d vs %d%n", baseline.rows(), candidate.rows());
+        for (var tag : baseline.tags.entrySet()) {
+            String other = candidate.tags.get(tag.getKey());
+            if (!tag.getKey().equals("started") && !tag.getValue().equals(other)) {
+                System.out.println("warning: " + tag.getKey() + " differs (" + tag.getValue() + " vs " + other + ")");
+            }
+        }
+        double frameP99Shift = 0.0;
+        for (String column : baseline.columns.keySet()) {
+            if (column.equals("frame") || !candidate.columns.containsKey(column)) {
+                continue;
+            }
+            boolean nanos = column.endsWith("_ns");
+            long[] a = sorted(baseline.columns.get(column));
+            long[] b = sorted(candidate.columns.get(column));
+            System.out.printf("%n%-20s %12s %12s %9s%n", column, "baseline", "candidate", "shift");
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                long va = percentile(a, PERCENTILES[i]);
+                long vb = percentile(b, PERCENTILES[i]);
+                double shift = va != 0 ? (vb - va) * 100.0 / va : 0.0;
+                if (column.equals("frame_ns") && PERCENTILES[i] == 0.99) {
+                    frameP99Shift = shift;
+                }
+                System.out.printf("  %-18s %12s %12s %+8.1f%%%n", PERCENTILE_NAMES[i], format(va, nanos), format(vb, nanos), shift);
+            }
+        }
+        if (frameP99Shift > limit) {
+            System.out.printf("%nREGRESSION: p99 frame time %+.1f%% (limit %.1f%%)%n", frameP99Shift, limit);
+            System.exit(2);
+        }
+        System.out.printf("%nOK: p99 frame time %+.1f%% (limit %.1f%%)%n", frameP99Shift, limit);
+    }
+
+    private static String format(long value, boolean nanos) {
+        return nanos ? String.format("%.3f ms", value / 1e6) : Long.toString(value);
+    }
+
+    private static long[] sorted(long[] values) {
+        long[] copy = values.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private record Capture(Map<String, String> tags, Map<String, long[]> columns) {
+
+        int rows() {
+            return columns.isEmpty() ? 0 : columns.values().iterator().next().length;
+        }
+
+        static Capture read(Path file) throws Exception {
+            Map<String, String> tags = new LinkedHashMap<>();
+            String[] names = null;
+            List<long[]> rows = new ArrayList<>();
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line = reader.readLine();
+                if (!FrameRecorder.MAGIC.equals(line)) {
+                    throw new IllegalArgumentException(file + " is not a frame capture");
+                }
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    if (line.startsWith("#")) {
+                        int eq = line.indexOf('=');
+                        if (eq > 0) {
+                            tags.put(line.substring(1, eq).trim(), line.substring(eq + 1).trim());
+                        }
+                    } else if (names == null) {
+                        names = line.split(",");
+                    } else {
+                        String[] cells = line.split(",");
+                        if (cells.length != names.length) {
+                            // a capture cut off by a crash ends with a partial row
+                            continue;
+                        }
+                        long[] row = new long[cells.length];
+                        for (int i = 0; i < cells.length; i++) {
+                            row[i] = Long.parseLong(cells[i]);
+                        }
+                        rows.add(row);
+                    }
+                }
+            }
+            if (names == null) {
+                throw new IllegalArgumentException(file + " has no header line");
+            }
+            Map<String, long[]> columns = new LinkedHashMap<>();
+            for (int c = 0; c < names.length; c++) {
+                long[] values = new long[rows.size()];
+                for (int r = 0; r < values.length; r++) {
+                    values[r] = rows.get(r)[c];
+                }
+                columns.put(names[c], values);
+            }
+            return new Capture(tags, columns);
+        }
+    }
+}
@@ -1,47 +1,164 @@
 package org.overb.arkanoidfx.game.core;
 
+import org.overb.arkanoidfx.enums.EventCoalescing;
 import org.overb.arkanoidfx.enums.EventType;
 
-import java.util.ArrayList;
-import java.util.EnumMap;
-import java.util.List;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Consumer;
 
 public final class EventBus {
 
-    private static final EnumMap<EventType, List<Consumer<GameEvent>>> listeners = new EnumMap<>(EventType.class);
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final Consumer<GameEvent>[] NONE = new Consumer[0];
+    // one copy-on-write array per event type: subscribers replace it, publishers only read it
+    private static final AtomicReferenceArray<Consumer<GameEvent>[]> listeners = new AtomicReferenceArray<>(EventType.values().length);
+    private static final EventCoalescing[] coalescing = new EventCoalescing[EventType.values().length];
+    // deferred mode: events wait here until the frame drains them. The queue belongs to the thread that turned
+    // deferred mode on, which publishes and drains without locking; other threads are rejected.
+    private static volatile boolean deferred = false;
+    private static Thread owner;
+    private static GameEvent[] queue = new GameEvent[64];
+    private static GameEvent[] spare = new GameEvent[64];
+    private static boolean draining = false;
+    private static int queueSize = 0;
+    private static final int[] lastQueued = new int[EventType.values().length];
+
+    static {
+        for (int i = 0; i < listeners.length(); i++) {
+            listeners.set(i, NONE);
+        }
+        Arrays.fill(coalescing, EventCoalescing.KEEP_ALL);
+        coalescing[EventType.HUD_UPDATE.ordinal()] = EventCoalescing.KEEP_LAST;
+        Arrays.fill(lastQueued, -1);
+    }
 
     private EventBus() {
     }
 
     public static synchronized void subscribe(EventType type, Consumer<GameEvent> listener) {
-        listeners.computeIfAbsent(type, k -> new ArrayList<>()).add(listener);
+        Consumer<GameEvent>[] current = listeners.get(type.ordinal());
+        Consumer<GameEvent>[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners.set(type.ordinal(), updated);
     }
 
     public static synchronized void unsubscribe(EventType type, Consumer<GameEvent> listener) {
-        List<Consumer<GameEvent>> list = listeners.get(type);
-        if (list != null) {
-            list.remove(listener);
-            if (list.isEmpty()) {
-                listeners.remove(type);
+        Consumer<GameEvent>[] current = listeners.get(type.ordinal());
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].equals(listener)) {
+                Consumer<GameEvent>[] updated = Arrays.copyOf(current, current.length - 1);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners.set(type.ordinal(), current.length == 1 ? NONE : updated);
+                return;
             }
         }
     }
 
+    public static boolean isDeferred() {
+        return deferred;
+    }
+
+    // Deferred events are only dispatched by drain(), so whoever turns this on has to drain once per frame,
+    // and only that thread may publish while it is on. Turning it off dispatches whatever is still queued.
+    public static void setDeferred(boolean value) {
+        if (value) {
+            owner = Thread.currentThread();
+            deferred = true;
+        } else if (deferred) {
+            checkOwner();
+            deferred = false;
+            drain();
+            owner = null;
+        }
+    }
+
+    public static EventCoalescing getCoalescing(EventType type) {
+        return coalescing[type.ordinal()];
+    }
+
+    public static void setCoalescing(EventType type, EventCoalescing mode) {
+        coalescing[type.ordinal()] = mode;
+    }
+
     public static void publish(GameEvent event) {
-        List<Consumer<GameEvent>> snapshot;
-        synchronized (EventBus.class) {
-            List<Consumer<GameEvent>> list = listeners.get(event.type());
-            if (list == null || list.isEmpty()) {
-                return;
+        EventMetrics metrics = EventMetrics.getInstance();
+        if (metrics.isEnabled()) {
+            metrics.onPublished(event.type());
+        }
+        if (deferred) {
+            enqueue(event);
+        } else {
+            dispatch(event);
+        }
+    }
+
+    // Dispatches the queued events in publish order. Events published by the listeners
+    // are dispatched in the same drain, after the ones already queued. Game thread only.
+    public static void drain() {
+        if (draining) {
+            // called from a listener, the running drain picks up whatever is queued
+            return;
+        }
+        draining = true;
+        try {
+            drainQueue();
+        } finally {
+            draining = false;
+        }
+    }
+
+    private static void drainQueue() {
+        while (queueSize > 0) {
+            GameEvent[] batch = queue;
+            int size = queueSize;
+            queue = spare;
+            spare = batch;
+            queueSize = 0;
+            Arrays.fill(lastQueued, -1);
+            for (int i = 0; i < size; i++) {
+                GameEvent event = batch[i];
+                batch[i] = null;
+                if (event != null) {
+                    dispatch(event);
+                }
             }
-            snapshot = new ArrayList<>(list);
         }
-        for (Consumer<GameEvent> c : snapshot) {
+    }
+
+    private static void enqueue(GameEvent event) {
+        checkOwner();
+        int type = event.type().ordinal();
+        if (coalescing[type] == EventCoalescing.KEEP_LAST && lastQueued[type] >= 0) {
+            // the earlier one is superseded, the new one goes to the back to keep the order with other types
+            queue[lastQueued[type]] = null;
+        }
+        if (queueSize == queue.length) {
+            queue = Arrays.copyOf(queue, queue.length * 2);
+        }
+        lastQueued[type] = queueSize;
+        queue[queueSize++] = event;
+    }
+
+    private static void checkOwner() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("Deferred game events can only be published from " + owner.getName());
+        }
+    }
+
+    private static void dispatch(GameEvent event) {
+        EventMetrics metrics = EventMetrics.getInstance();
+        boolean timed = metrics.isEnabled();
+        for (Consumer<GameEvent> c : listeners.get(event.type().ordinal())) {
+            long start = timed ? System.nanoTime() : 0L;
             try {
                 c.accept(event);
-            } catch (Exception ignore) {
+            } catch (Exception e) {
+                metrics.onException(event.type(), e);
+            }
+            if (timed) {
+                metrics.onInvoked(event.type(), System.nanoTime() - start);
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package org.overb.arkanoidfx.game.core;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.java.Log;
+import org.overb.arkanoidfx.enums.EventType;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Per event type counters for the EventBus: publishes, listener calls, listener time as a
+// power-of-two histogram and listener exceptions. Only exceptions are counted while disabled.
+@Log
+public final class EventMetrics {
+
+    // bucket i holds listener calls that took less than 2^i nanoseconds, the last one everything above
+    public static final int BUCKETS = 32;
+    private static final int TYPES = EventType.values().length;
+    private static final EventMetrics INSTANCE = new EventMetrics();
+
+    @Getter
+    @Setter
+    private volatile boolean enabled = false;
+    private final AtomicLongArray published = new AtomicLongArray(TYPES);
+    private final AtomicLongArray invocations = new AtomicLongArray(TYPES);
+    private final AtomicLongArray exceptions = new AtomicLongArray(TYPES);
+    private final AtomicLongArray totalNanos = new AtomicLongArray(TYPES);
+    private final AtomicLongArray maxNanos = new AtomicLongArray(TYPES);
+    private final AtomicLongArray histogram = new AtomicLongArray(TYPES * BUCKETS);
+
+    public static EventMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    void onPublished(EventType type) {
+        published.incrementAndGet(type.ordinal());
+    }
+
+    void onInvoked(EventType type, long nanos) {
+        int t = type.ordinal();
+        invocations.incrementAndGet(t);
+        totalNanos.addAndGet(t, nanos);
+        maxNanos.accumulateAndGet(t, nanos, Math::max);
+        histogram.incrementAndGet(t * BUCKETS + bucketOf(nanos));
+    }
+
+    // always counted, the bus used to swallow these without a trace
+    void onException(EventType type, Exception e) {
+        if (exceptions.getAndIncrement(type.ordinal()) == 0) {
+            log.warning("Listener for " + type + " failed: " + e);
+        }
+    }
+
+    public void reset() {
+        for (int t = 0; t < TYPES; t++) {
+            published.set(t, 0);
+            invocations.set(t, 0);
+            exceptions.set(t, 0);
+            totalNanos.set(t, 0);
+            maxNanos.set(t, 0);
+        }
+        for (int i = 0; i < histogram.length(); i++) {
+            histogram.set(i, 0);
+        }
+    }
+
+    public Snapshot snapshot(EventType type) {
+        int t = type.ordinal();
+        long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = histogram.get(t * BUCKETS + i);
+        }
+        return new Snapshot(type, published.get(t), invocations.get(t), exceptions.get(t), totalNanos.get(t), maxNanos.get(t), buckets);
+    }
+
+    static int bucketOf(long nanos) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, nanos)));
+    }
+
+    public record Snapshot(EventType type, long published, long invocations, long exceptions,
+                           long totalNanos, long maxNanos, long[] histogram) {
+
+        public double meanNanos() {
+            return invocations > 0 ? (double) totalNanos / invocations : 0.0;
+        }
+
+        // upper bound of the histogram bucket that holds the given fraction of the calls
+        public long percentileNanos(double fraction) {
+            long target = (long) Math.ceil(invocations * Math.max(0.0, Math.min(1.0, fraction)));
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= target && seen > 0) {
+                    return Math.min(maxNanos, 1L << i);
+                }
+            }
+            return maxNanos;
+        }
+    }
+}
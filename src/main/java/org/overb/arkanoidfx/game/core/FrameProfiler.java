@@ -0,0 +1,160 @@
+package org.overb.arkanoidfx.game.core;
+
+import lombok.Getter;
+import org.overb.arkanoidfx.enums.ProfilerSection;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+// Rolling window of frame times plus the time spent in a few sections of the update.
+// Frame times are always recorded, the section timers only while enabled.
+public final class FrameProfiler {
+
+    // about ten seconds at 60 fps
+    public static final int WINDOW = 600;
+    private static final int SECTIONS = ProfilerSection.values().length;
+    private static final FrameProfiler INSTANCE = new FrameProfiler();
+
+    @Getter
+    private volatile boolean enabled = false;
+    // section timers run while the overlay is shown or a capture is recording
+    private volatile boolean timing = false;
+    @Getter
+    private FrameRecorder recorder;
+    private final long[] frameNanos = new long[WINDOW];
+    private final long[][] sectionNanos = new long[SECTIONS][WINDOW];
+    private final long[] currentSections = new long[SECTIONS];
+    private int cursor = 0;
+    private int frames = 0;
+    private long lastFrameStart = 0L;
+    private final long[] sortBuffer = new long[WINDOW];
+
+    public static FrameProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    public void setEnabled(boolean enabled) {
+        Arrays.fill(currentSections, 0L);
+        this.enabled = enabled;
+        timing = enabled || recorder != null;
+    }
+
+    public void setRecorder(FrameRecorder recorder) {
+        Arrays.fill(currentSections, 0L);
+        this.recorder = recorder;
+        timing = enabled || recorder != null;
+    }
+
+    // call at the start of every frame, closes the previous one
+    public void onFrameStart() {
+        long now = System.nanoTime();
+        if (lastFrameStart != 0L) {
+            frameNanos[cursor] = now - lastFrameStart;
+            if (recorder != null) {
+                recorder.record(now - lastFrameStart, currentSections);
+            }
+            for (int s = 0; s < SECTIONS; s++) {
+                sectionNanos[s][cursor] = currentSections[s];
+                currentSections[s] = 0L;
+            }
+            cursor = (cursor + 1) % WINDOW;
+            frames = Math.min(WINDOW, frames + 1);
+        }
+        lastFrameStart = now;
+    }
+
+    // a paused engine is not a slow frame
+    public void onFramesSkipped() {
+        lastFrameStart = 0L;
+    }
+
+    public long begin() {
+        return timing ? System.nanoTime() : 0L;
+    }
+
+    public void end(ProfilerSection section, long start) {
+        if (start != 0L) {
+            currentSections[section.ordinal()] += System.nanoTime() - start;
+        }
+    }
+
+    // frames that ended within the last second
+    public int getFramesPerSecond() {
+        long total = 0L;
+        int count = 0;
+        for (int i = 0; i < frames && total < 1_000_000_000L; i++) {
+            total += frameNanos[Math.floorMod(cursor - 1 - i, WINDOW)];
+            count++;
+        }
+        return count;
+    }
+
+    // percentile of the frame times in the window, fraction from 0 to 1
+    public long frameNanosPercentile(double fraction) {
+        if (frames == 0) {
+            return 0L;
+        }
+        System.arraycopy(frameNanos, 0, sortBuffer, 0, frames);
+        Arrays.sort(sortBuffer, 0, frames);
+        int index = (int) Math.ceil(Math.max(0.0, Math.min(1.0, fraction)) * frames) - 1;
+        return sortBuffer[Math.max(0, index)];
+    }
+
+    public double meanSectionNanos(ProfilerSection section) {
+        if (frames == 0) {
+            return 0.0;
+        }
+        long total = 0L;
+        long[] samples = sectionNanos[section.ordinal()];
+        for (int i = 0; i < frames; i++) {
+            total += samples[i];
+        }
+        return (double) total / frames;
+    }
+
+    public long maxSectionNanos(ProfilerSection section) {
+        long max = 0L;
+        long[] samples = sectionNanos[section.ordinal()];
+        for (int i = 0; i < frames; i++) {
+            max = Math.max(max, samples[i]);
+        }
+        return max;
+    }
+
+    public void reset() {
+        Arrays.fill(frameNanos, 0L);
+        for (long[] samples : sectionNanos) {
+            Arrays.fill(samples, 0L);
+        }
+        Arrays.fill(currentSections, 0L);
+        cursor = 0;
+        frames = 0;
+        lastFrameStart = 0L;
+    }
+
+    public static long gcCount() {
+        long count = 0L;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0L, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    public static long gcTimeMillis() {
+        long time = 0L;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0L, gc.getCollectionTime());
+        }
+        return time;
+    }
+
+    // bytes allocated by all threads so far, -1 when the JVM does not track it
+    public static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getTotalThreadAllocatedBytes();
+        }
+        return -1L;
+    }
+}
@@ -0,0 +1,93 @@
+package org.overb.arkanoidfx.game.core;
+
+import lombok.Getter;
+import lombok.extern.java.Log;
+import org.overb.arkanoidfx.enums.ProfilerSection;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+// Writes every frame closed by the FrameProfiler to a CSV capture: '#' lines with the tags
+// (level, settings, ...), one header line, then one row of nanoseconds per frame. Read by CaptureCompare.
+@Log
+public final class FrameRecorder {
+
+    public static final String MAGIC = "# arkanoidfx frame capture v1";
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    @Getter
+    private final Path file;
+    private final BufferedWriter writer;
+    private final IntSupplier ballCount;
+    private final StringBuilder row = new StringBuilder(96);
+    @Getter
+    private long frames = 0;
+    private boolean failed = false;
+
+    private FrameRecorder(Path file, Map<String, String> tags, IntSupplier ballCount) throws IOException {
+        this.file = file;
+        this.ballCount = ballCount;
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        writer.write(MAGIC);
+        writer.newLine();
+        writer.write("# started=" + LocalDateTime.now());
+        writer.newLine();
+        for (var tag : tags.entrySet()) {
+            writer.write("# " + tag.getKey() + "=" + tag.getValue());
+            writer.newLine();
+        }
+        StringBuilder header = new StringBuilder("frame,frame_ns");
+        for (ProfilerSection section : ProfilerSection.values()) {
+            header.append(',').append(section.name().toLowerCase(Locale.ROOT)).append("_ns");
+        }
+        writer.write(header.append(",balls").toString());
+        writer.newLine();
+    }
+
+    // captures/capture-<time>-<level>.csv under the given directory
+    public static FrameRecorder create(Path dir, String level, Map<String, String> tags, IntSupplier ballCount) throws IOException {
+        Path captures = dir.resolve("captures");
+        Files.createDirectories(captures);
+        String name = level == null ? "menu" : Path.of(level).getFileName().toString().replaceFirst("\\.json$", "");
+        Path file = captures.resolve("capture-" + LocalDateTime.now().format(FILE_STAMP) + "-" + name + ".csv");
+        return new FrameRecorder(file, tags, ballCount);
+    }
+
+    void record(long frameNanos, long[] sectionNanos) {
+        if (failed) {
+            return;
+        }
+        row.setLength(0);
+        row.append(frames++).append(',').append(frameNanos);
+        for (long nanos : sectionNanos) {
+            row.append(',').append(nanos);
+        }
+        row.append(',').append(ballCount.getAsInt()).append('\n');
+        try {
+            writer.append(row);
+            // keep what was recorded if the game is closed without stopping the capture
+            if (frames % FrameProfiler.WINDOW == 0) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            failed = true;
+            log.warning("Frame capture stopped, cannot write " + file + ": " + e.getMessage());
+        }
+    }
+
+    public void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warning("Failed to close frame capture " + file + ": " + e.getMessage());
+        }
+    }
+}
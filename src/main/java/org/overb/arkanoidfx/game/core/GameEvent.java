@@ -4,8 +4,17 @@ import org.overb.arkanoidfx.enums.EventType;
 
 public record GameEvent(EventType type, Object payload) {
 
+    // events without a payload are immutable and identical, so one instance per type serves every publish
+    private static final GameEvent[] BARE = new GameEvent[EventType.values().length];
+
+    static {
+        for (EventType type : EventType.values()) {
+            BARE[type.ordinal()] = new GameEvent(type, null);
+        }
+    }
+
     public static GameEvent of(EventType type) {
-        return new GameEvent(type, null);
+        return BARE[type.ordinal()];
     }
 
     public static GameEvent of(EventType type, Object payload) {
@@ -0,0 +1,28 @@
+package org.overb.arkanoidfx.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.overb.arkanoidfx.BallStep")
+@Label("Ball Step")
+@Category({"ArkanoidFX", "Physics"})
+@Description("One BallSystem step, all balls of a frame")
+public class BallStepEvent extends Event {
+
+    @Label("Mode")
+    public String mode;
+
+    @Label("Balls")
+    public int balls;
+
+    @Label("Substeps")
+    @Description("Substeps over all balls, impact events in event-driven mode")
+    public int substeps;
+
+    @Label("Frame Time")
+    @Description("Simulated time in seconds")
+    public double frameTime;
+}
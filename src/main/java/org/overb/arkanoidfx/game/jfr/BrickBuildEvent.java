@@ -0,0 +1,30 @@
+package org.overb.arkanoidfx.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.overb.arkanoidfx.BrickBuild")
+@Label("Brick Build")
+@Category({"ArkanoidFX", "Level"})
+public class BrickBuildEvent extends Event {
+
+    @Label("Columns")
+    public int cols;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Cells")
+    public int cells;
+
+    @Label("Bricks")
+    public int bricks;
+
+    @Label("Renderer")
+    public String renderer;
+
+    @Label("Scene Nodes")
+    public int sceneNodes;
+}
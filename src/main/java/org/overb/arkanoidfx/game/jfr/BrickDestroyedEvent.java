@@ -0,0 +1,27 @@
+package org.overb.arkanoidfx.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.overb.arkanoidfx.BrickDestroyed")
+@Label("Brick Destroyed")
+@Category({"ArkanoidFX", "Gameplay"})
+public class BrickDestroyedEvent extends Event {
+
+    @Label("Brick")
+    public String brick;
+
+    @Label("Column")
+    public int col;
+
+    @Label("Row")
+    public int row;
+
+    @Label("Points")
+    public int points;
+
+    @Label("Bricks Left")
+    public int bricksLeft;
+}
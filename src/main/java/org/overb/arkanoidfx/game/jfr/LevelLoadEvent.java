@@ -0,0 +1,26 @@
+package org.overb.arkanoidfx.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.overb.arkanoidfx.LevelLoad")
+@Label("Level Load")
+@Category({"ArkanoidFX", "Level"})
+@Description("Loading a level and spawning its walls, bricks, paddle and ball")
+public class LevelLoadEvent extends Event {
+
+    @Label("Level")
+    public String level;
+
+    @Label("Bricks")
+    public int bricks;
+
+    @Label("Destructible Bricks")
+    public int destructibleBricks;
+
+    @Label("Loaded")
+    public boolean loaded;
+}
@@ -0,0 +1,23 @@
+package org.overb.arkanoidfx.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.overb.arkanoidfx.MusicSwitch")
+@Label("Music Switch")
+@Category({"ArkanoidFX", "Audio"})
+public class MusicSwitchEvent extends Event {
+
+    @Label("Track")
+    public String track;
+
+    @Label("Bytes Loaded")
+    @DataAmount
+    public long bytesLoaded;
+
+    @Label("Started")
+    public boolean started;
+}
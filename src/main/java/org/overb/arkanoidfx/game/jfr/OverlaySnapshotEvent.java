@@ -0,0 +1,26 @@
+package org.overb.arkanoidfx.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.overb.arkanoidfx.OverlaySnapshot")
+@Label("Overlay Snapshot")
+@Category({"ArkanoidFX", "UI"})
+public class OverlaySnapshotEvent extends Event {
+
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+
+    @Label("Fragments")
+    public int fragments;
+
+    @Label("Pixel Bytes")
+    @DataAmount
+    public long bytes;
+}
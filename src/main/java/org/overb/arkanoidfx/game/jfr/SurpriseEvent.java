@@ -0,0 +1,21 @@
+package org.overb.arkanoidfx.game.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.overb.arkanoidfx.Surprise")
+@Label("Surprise")
+@Category({"ArkanoidFX", "Gameplay"})
+public class SurpriseEvent extends Event {
+
+    @Label("Action")
+    public String action;
+
+    @Label("Surprise")
+    public String surprise;
+
+    @Label("Effect")
+    public String effect;
+}
@@ -0,0 +1,29 @@
+package org.overb.arkanoidfx.game.jmx;
+
+import org.overb.arkanoidfx.audio.SfxBus;
+
+import java.util.Map;
+
+public final class AudioStats implements AudioStatsMXBean {
+
+    @Override
+    public int getPooledSounds() {
+        return FxRead.call(() -> SfxBus.getInstance().getPooledSounds(), 0);
+    }
+
+    @Override
+    public int getPooledClips() {
+        return FxRead.call(() -> {
+            int clips = 0;
+            for (int size : SfxBus.getInstance().getPoolSizes().values()) {
+                clips += size;
+            }
+            return clips;
+        }, 0);
+    }
+
+    @Override
+    public Map<String, Integer> getPoolSizes() {
+        return FxRead.call(() -> SfxBus.getInstance().getPoolSizes(), Map.of());
+    }
+}
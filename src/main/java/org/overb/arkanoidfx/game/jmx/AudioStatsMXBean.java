@@ -0,0 +1,12 @@
+package org.overb.arkanoidfx.game.jmx;
+
+import java.util.Map;
+
+public interface AudioStatsMXBean {
+
+    int getPooledSounds();
+
+    int getPooledClips();
+
+    Map<String, Integer> getPoolSizes();
+}
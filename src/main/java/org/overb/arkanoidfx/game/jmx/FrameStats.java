@@ -0,0 +1,46 @@
+package org.overb.arkanoidfx.game.jmx;
+
+import org.overb.arkanoidfx.game.core.FrameProfiler;
+
+// Rolling frame times over the profiler window, which is recorded whether or not the overlay is shown.
+public final class FrameStats implements FrameStatsMXBean {
+
+    @Override
+    public int getFramesPerSecond() {
+        return FxRead.call(() -> FrameProfiler.getInstance().getFramesPerSecond(), 0);
+    }
+
+    @Override
+    public double getFrameMillisP50() {
+        return percentileMillis(0.50);
+    }
+
+    @Override
+    public double getFrameMillisP95() {
+        return percentileMillis(0.95);
+    }
+
+    @Override
+    public double getFrameMillisP99() {
+        return percentileMillis(0.99);
+    }
+
+    @Override
+    public double getFrameMillisMax() {
+        return percentileMillis(1.0);
+    }
+
+    @Override
+    public long getGcCount() {
+        return FrameProfiler.gcCount();
+    }
+
+    @Override
+    public long getGcTimeMillis() {
+        return FrameProfiler.gcTimeMillis();
+    }
+
+    private static double percentileMillis(double fraction) {
+        return FxRead.call(() -> FrameProfiler.getInstance().frameNanosPercentile(fraction) / 1_000_000.0, 0.0);
+    }
+}
@@ -0,0 +1,18 @@
+package org.overb.arkanoidfx.game.jmx;
+
+public interface FrameStatsMXBean {
+
+    int getFramesPerSecond();
+
+    double getFrameMillisP50();
+
+    double getFrameMillisP95();
+
+    double getFrameMillisP99();
+
+    double getFrameMillisMax();
+
+    long getGcCount();
+
+    long getGcTimeMillis();
+}
@@ -0,0 +1,36 @@
+package org.overb.arkanoidfx.game.jmx;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// JMX calls arrive on RMI threads, the game state is only safe to read on the FX thread.
+final class FxRead {
+
+    private static final long TIMEOUT_MILLIS = 2000;
+
+    private FxRead() {
+    }
+
+    static <T> T call(Supplier<T> reader, T fallback) {
+        if (Platform.isFxApplicationThread()) {
+            return reader.get();
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            Platform.runLater(() -> {
+                try {
+                    result.complete(reader.get());
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            return result.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            // toolkit gone or the FX thread is stalled, a poller should not hang on it
+            return fallback;
+        }
+    }
+}
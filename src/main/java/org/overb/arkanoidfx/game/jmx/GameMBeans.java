@@ -0,0 +1,63 @@
+package org.overb.arkanoidfx.game.jmx;
+
+import lombok.extern.java.Log;
+import org.overb.arkanoidfx.game.GameSession;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// Registers the live game statistics with the platform MBean server under org.overb.arkanoidfx:type=...
+@Log
+public final class GameMBeans {
+
+    private static final String DOMAIN = "org.overb.arkanoidfx";
+    private static final GameMBeans INSTANCE = new GameMBeans();
+
+    private final List<ObjectName> registered = new ArrayList<>();
+
+    public static GameMBeans getInstance() {
+        return INSTANCE;
+    }
+
+    public synchronized void register(GameSession session, Supplier<String> levelName) {
+        unregister();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        register(server, "Session", new SessionStats(session, levelName));
+        register(server, "World", new WorldStats());
+        register(server, "Audio", new AudioStats());
+        register(server, "Frames", new FrameStats());
+        register(server, "Pools", new PoolStats());
+    }
+
+    public synchronized void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : registered) {
+            try {
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            } catch (Exception e) {
+                log.warning("Failed to unregister " + name + ": " + e.getMessage());
+            }
+        }
+        registered.clear();
+    }
+
+    private void register(MBeanServer server, String type, Object mbean) {
+        try {
+            ObjectName name = new ObjectName(DOMAIN + ":type=" + type);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(mbean, name);
+            registered.add(name);
+        } catch (Exception e) {
+            // monitoring is optional, the game runs without it
+            log.warning("Failed to register MBean " + type + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.overb.arkanoidfx.game.jmx;
+
+import org.overb.arkanoidfx.game.world.PoolMetrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// Entity and texture pool counters keyed by pool name. The counters are volatile, no need to go through the FX thread.
+public final class PoolStats implements PoolStatsMXBean {
+
+    @Override
+    public Map<String, Long> getCreated() {
+        return byPool(PoolMetrics::getCreated);
+    }
+
+    @Override
+    public Map<String, Long> getReused() {
+        return byPool(PoolMetrics::getReused);
+    }
+
+    @Override
+    public Map<String, Long> getDropped() {
+        return byPool(PoolMetrics::getDropped);
+    }
+
+    @Override
+    public Map<String, Integer> getFree() {
+        return byPool(PoolMetrics::getFree);
+    }
+
+    @Override
+    public Map<String, Integer> getInUse() {
+        return byPool(PoolMetrics::getInUse);
+    }
+
+    private static <T> Map<String, T> byPool(Function<PoolMetrics, T> value) {
+        Map<String, T> values = new LinkedHashMap<>();
+        for (PoolMetrics metrics : PoolMetrics.all()) {
+            values.put(metrics.getName(), value.apply(metrics));
+        }
+        return values;
+    }
+}
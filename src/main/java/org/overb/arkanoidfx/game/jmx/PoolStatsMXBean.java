@@ -0,0 +1,16 @@
+package org.overb.arkanoidfx.game.jmx;
+
+import java.util.Map;
+
+public interface PoolStatsMXBean {
+
+    Map<String, Long> getCreated();
+
+    Map<String, Long> getReused();
+
+    Map<String, Long> getDropped();
+
+    Map<String, Integer> getFree();
+
+    Map<String, Integer> getInUse();
+}
@@ -0,0 +1,46 @@
+package org.overb.arkanoidfx.game.jmx;
+
+import org.overb.arkanoidfx.game.GameSession;
+
+import java.util.function.Supplier;
+
+public final class SessionStats implements SessionStatsMXBean {
+
+    private final GameSession session;
+    private final Supplier<String> levelName;
+
+    public SessionStats(GameSession session, Supplier<String> levelName) {
+        this.session = session;
+        this.levelName = levelName;
+    }
+
+    @Override
+    public int getScore() {
+        return FxRead.call(session::getScoreRounded, 0);
+    }
+
+    @Override
+    public int getCombo() {
+        return FxRead.call(session::getCombo, 0);
+    }
+
+    @Override
+    public int getLives() {
+        return FxRead.call(session::getLives, 0);
+    }
+
+    @Override
+    public int getDestructibleBricksLeft() {
+        return FxRead.call(session::getDestructibleBricksLeft, 0);
+    }
+
+    @Override
+    public int getCurrentLevel() {
+        return FxRead.call(session::getCurrentLevel, 0);
+    }
+
+    @Override
+    public String getLevelName() {
+        return FxRead.call(levelName, null);
+    }
+}
@@ -0,0 +1,16 @@
+package org.overb.arkanoidfx.game.jmx;
+
+public interface SessionStatsMXBean {
+
+    int getScore();
+
+    int getCombo();
+
+    int getLives();
+
+    int getDestructibleBricksLeft();
+
+    int getCurrentLevel();
+
+    String getLevelName();
+}
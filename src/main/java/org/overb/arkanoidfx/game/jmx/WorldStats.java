@@ -0,0 +1,107 @@
+package org.overb.arkanoidfx.game.jmx;
+
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.texture.Texture;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.image.Image;
+import org.overb.arkanoidfx.enums.EntityType;
+import org.overb.arkanoidfx.game.world.AnimationSystem;
+import org.overb.arkanoidfx.util.ImageCache;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+public final class WorldStats implements WorldStatsMXBean {
+
+    @Override
+    public int getEntityCount() {
+        return FxRead.call(() -> FXGL.getGameWorld().getEntities().size(), 0);
+    }
+
+    // every EntityType is listed even when none are alive, so dashboards get stable keys
+    @Override
+    public Map<String, Integer> getEntityCountsByType() {
+        return FxRead.call(() -> {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (EntityType type : EntityType.values()) {
+                counts.put(type.name(), 0);
+            }
+            for (Entity entity : FXGL.getGameWorld().getEntities()) {
+                String key = entity.getType() instanceof EntityType type ? type.name() : "OTHER";
+                counts.merge(key, 1, Integer::sum);
+            }
+            return counts;
+        }, Map.of());
+    }
+
+    @Override
+    public int getActiveAnimations() {
+        return FxRead.call(() -> AnimationSystem.getInstance().getCount(), 0);
+    }
+
+    @Override
+    public int getTextureViews() {
+        return FxRead.call(() -> countTextures(null), 0);
+    }
+
+    // textures that share a decoded image count once
+    @Override
+    public int getDistinctImages() {
+        return FxRead.call(() -> {
+            Set<Image> images = Collections.newSetFromMap(new IdentityHashMap<>());
+            countTextures(images);
+            return images.size();
+        }, 0);
+    }
+
+    @Override
+    public int getCachedImages() {
+        return FxRead.call(() -> ImageCache.getInstance().getSize(), 0);
+    }
+
+    @Override
+    public long getCachedImageBytes() {
+        return FxRead.call(() -> ImageCache.getInstance().getBytes(), 0L);
+    }
+
+    @Override
+    public long getImageCacheHits() {
+        return FxRead.call(() -> ImageCache.getInstance().getHits(), 0L);
+    }
+
+    @Override
+    public long getImageCacheMisses() {
+        return FxRead.call(() -> ImageCache.getInstance().getMisses(), 0L);
+    }
+
+    private static int countTextures(Set<Image> images) {
+        int count = 0;
+        for (Entity entity : FXGL.getGameWorld().getEntities()) {
+            for (Node node : entity.getViewComponent().getChildren()) {
+                count += countTextures(node, images);
+            }
+        }
+        return count;
+    }
+
+    private static int countTextures(Node node, Set<Image> images) {
+        if (node instanceof Texture texture) {
+            if (images != null && texture.getImage() != null) {
+                images.add(texture.getImage());
+            }
+            return 1;
+        }
+        int count = 0;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countTextures(child, images);
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,24 @@
+package org.overb.arkanoidfx.game.jmx;
+
+import java.util.Map;
+
+public interface WorldStatsMXBean {
+
+    int getEntityCount();
+
+    Map<String, Integer> getEntityCountsByType();
+
+    int getActiveAnimations();
+
+    int getTextureViews();
+
+    int getDistinctImages();
+
+    int getCachedImages();
+
+    long getCachedImageBytes();
+
+    long getImageCacheHits();
+
+    long getImageCacheMisses();
+}
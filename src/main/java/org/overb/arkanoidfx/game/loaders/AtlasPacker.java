@@ -0,0 +1,86 @@
+package org.overb.arkanoidfx.game.loaders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Shelf packing of rectangles into pages: tallest first, left to right, a new shelf when the row
+// is full and a new page when the shelves are. Pages are trimmed to what they actually use.
+public final class AtlasPacker {
+
+    private final int maxPageSize;
+    private final int padding;
+
+    public AtlasPacker(int maxPageSize, int padding) {
+        this.maxPageSize = maxPageSize;
+        this.padding = Math.max(0, padding);
+    }
+
+    public static final class Rect {
+        public final String key;
+        public final int width;
+        public final int height;
+        public int page = -1;
+        public int x;
+        public int y;
+
+        public Rect(String key, int width, int height) {
+            this.key = key;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    public static final class Page {
+        public int width;
+        public int height;
+        public long usedArea;
+    }
+
+    // places every rect that fits a page, the ones that do not keep page -1
+    public List<Page> pack(List<Rect> rects) {
+        List<Rect> order = new ArrayList<>(rects);
+        order.sort((a, b) -> a.height != b.height ? Integer.compare(b.height, a.height) : Integer.compare(b.width, a.width));
+        List<Page> pages = new ArrayList<>();
+        Page page = null;
+        int shelfX = 0;
+        int shelfY = 0;
+        int shelfHeight = 0;
+        for (Rect rect : order) {
+            if (rect.width > maxPageSize || rect.height > maxPageSize) {
+                continue;
+            }
+            if (page != null && shelfX + rect.width > maxPageSize) {
+                shelfY += shelfHeight + padding;
+                shelfX = 0;
+                shelfHeight = 0;
+            }
+            if (page == null || shelfY + rect.height > maxPageSize) {
+                page = new Page();
+                pages.add(page);
+                shelfX = 0;
+                shelfY = 0;
+                shelfHeight = 0;
+            }
+            rect.page = pages.size() - 1;
+            rect.x = shelfX;
+            rect.y = shelfY;
+            shelfX += rect.width + padding;
+            shelfHeight = Math.max(shelfHeight, rect.height);
+            page.width = Math.max(page.width, rect.x + rect.width);
+            page.height = Math.max(page.height, rect.y + rect.height);
+            page.usedArea += (long) rect.width * rect.height;
+        }
+        return pages;
+    }
+
+    // share of the page pixels covered by packed rects
+    public static double efficiency(List<Page> pages) {
+        long used = 0L;
+        long total = 0L;
+        for (Page page : pages) {
+            used += page.usedArea;
+            total += (long) page.width * page.height;
+        }
+        return total > 0 ? (double) used / total : 0.0;
+    }
+}
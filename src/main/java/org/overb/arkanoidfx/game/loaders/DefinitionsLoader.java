@@ -5,11 +5,31 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.overb.arkanoidfx.entities.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Function;
 
 public class DefinitionsLoader {
 
+    private static final String TEXT_DIR = "assets/text/";
+
     private final ObjectMapper mapper = new ObjectMapper();
+    private final Function<String, String> textSource;
+
+    public DefinitionsLoader() {
+        this.textSource = this::tryLoadTextViaFXGL;
+    }
+
+    public DefinitionsLoader(Function<String, String> textSource) {
+        this.textSource = textSource;
+    }
+
+    // reads the definitions straight from the classpath, for running without FXGL
+    public static DefinitionsLoader fromClasspath() {
+        return new DefinitionsLoader(DefinitionsLoader::loadTextFromClasspath);
+    }
 
     public EntityRepository loadAll() throws Exception {
         var repo = new EntityRepository();
@@ -18,11 +38,28 @@ public class DefinitionsLoader {
         loadBalls(repo);
         loadPaddles(repo);
         validate(repo);
+        computeFrameOffsets(repo);
         return repo;
     }
 
+    private void computeFrameOffsets(EntityRepository repo) {
+        repo.getBricks().values().forEach(def -> {
+            computeFrameOffsets(def.visual);
+            computeFrameOffsets(def.breakAnim);
+        });
+        repo.getSurprises().values().forEach(def -> computeFrameOffsets(def.visual));
+        repo.getBalls().values().forEach(def -> computeFrameOffsets(def.visual));
+        repo.getPaddles().values().forEach(def -> computeFrameOffsets(def.visual));
+    }
+
+    private static void computeFrameOffsets(Sprite sprite) {
+        if (sprite != null) {
+            sprite.computeFrameOffsets();
+        }
+    }
+
     private void loadBricks(EntityRepository repo) throws Exception {
-        String json = tryLoadTextViaFXGL("bricks.json");
+        String json = textSource.apply("bricks.json");
         JsonNode root = mapper.readTree(json);
         JsonNode bricks = root.path("bricks");
         if (!bricks.isArray()) {
@@ -35,7 +72,7 @@ public class DefinitionsLoader {
     }
 
     private void loadSurprises(EntityRepository repo) throws Exception {
-        String json = tryLoadTextViaFXGL("surprises.json");
+        String json = textSource.apply("surprises.json");
         JsonNode root = mapper.readTree(json);
         JsonNode surprises = root.path("surprises");
         if (!surprises.isArray()) {
@@ -48,7 +85,7 @@ public class DefinitionsLoader {
     }
 
     private void loadBalls(EntityRepository repo) throws Exception {
-        String json = tryLoadTextViaFXGL("balls.json");
+        String json = textSource.apply("balls.json");
         var root = mapper.readTree(json);
         var balls = root.path("balls");
         if (!balls.isArray()) {
@@ -61,7 +98,7 @@ public class DefinitionsLoader {
     }
 
     private void loadPaddles(EntityRepository repo) throws Exception {
-        String json = tryLoadTextViaFXGL("paddles.json");
+        String json = textSource.apply("paddles.json");
         JsonNode root = mapper.readTree(json);
         JsonNode paddles = root.path("paddles");
         if (!paddles.isArray()) throw new IllegalStateException("defs/paddles.json: 'paddles' must be an array");
@@ -83,6 +120,17 @@ public class DefinitionsLoader {
         }
     }
 
+    private static String loadTextFromClasspath(String pathInAssets) {
+        try (InputStream is = Thread.currentThread().getContextClassLoader().getResourceAsStream(TEXT_DIR + pathInAssets)) {
+            if (is == null) {
+                throw new IllegalStateException("Text asset not found on classpath: " + TEXT_DIR + pathInAssets);
+            }
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load text asset: " + TEXT_DIR + pathInAssets, e);
+        }
+    }
+
     private void validate(EntityRepository repo) {
         repo.getBricks().forEach((id, definition) -> {
             if (id <= 0) {
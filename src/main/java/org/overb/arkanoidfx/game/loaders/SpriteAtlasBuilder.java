@@ -0,0 +1,104 @@
+package org.overb.arkanoidfx.game.loaders;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import lombok.extern.java.Log;
+import org.overb.arkanoidfx.entities.EntityRepository;
+import org.overb.arkanoidfx.entities.Sprite;
+import org.overb.arkanoidfx.util.ImageCache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Startup stage after the definitions are loaded: copies every referenced sprite sheet into a few
+// atlas pages and points the definitions at them, so entity views share one backing image.
+@Log
+public final class SpriteAtlasBuilder {
+
+    // the largest texture every Prism pipeline accepts
+    private static final int MAX_PAGE_SIZE = 4096;
+    private static final int PADDING = 1;
+    private static final String PAGE_PREFIX = "atlas/";
+
+    public void build(EntityRepository repository) {
+        Map<String, List<Sprite>> bySheet = new LinkedHashMap<>();
+        repository.getBricks().values().forEach(def -> {
+            collect(bySheet, def.visual);
+            collect(bySheet, def.breakAnim);
+        });
+        repository.getSurprises().values().forEach(def -> collect(bySheet, def.visual));
+        repository.getBalls().values().forEach(def -> collect(bySheet, def.visual));
+        repository.getPaddles().values().forEach(def -> collect(bySheet, def.visual));
+
+        Map<String, Image> sheets = new LinkedHashMap<>();
+        List<AtlasPacker.Rect> rects = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+        for (Map.Entry<String, List<Sprite>> entry : bySheet.entrySet()) {
+            Image sheet = ImageCache.getInstance().get(entry.getKey());
+            if (sheet == null) {
+                continue;
+            }
+            int width = (int) sheet.getWidth();
+            int height = (int) sheet.getHeight();
+            // a strip that reads past its sheet would pick up the neighbours in an atlas
+            if (!stripsFit(entry.getValue(), width, height)) {
+                skipped.add(entry.getKey());
+                continue;
+            }
+            sheets.put(entry.getKey(), sheet);
+            rects.add(new AtlasPacker.Rect(entry.getKey(), width, height));
+        }
+        List<AtlasPacker.Page> pages = new AtlasPacker(MAX_PAGE_SIZE, PADDING).pack(rects);
+        if (pages.isEmpty()) {
+            log.info("Sprite atlas: nothing to pack");
+            return;
+        }
+
+        WritableImage[] images = new WritableImage[pages.size()];
+        for (int i = 0; i < pages.size(); i++) {
+            images[i] = new WritableImage(pages.get(i).width, pages.get(i).height);
+        }
+        int packed = 0;
+        for (AtlasPacker.Rect rect : rects) {
+            if (rect.page < 0) {
+                skipped.add(rect.key);
+                continue;
+            }
+            PixelWriter writer = images[rect.page].getPixelWriter();
+            writer.setPixels(rect.x, rect.y, rect.width, rect.height, sheets.get(rect.key).getPixelReader(), 0, 0);
+            for (Sprite sprite : bySheet.get(rect.key)) {
+                sprite.sprite = PAGE_PREFIX + rect.page;
+                sprite.originX += rect.x;
+                sprite.originY += rect.y;
+                sprite.computeFrameOffsets();
+            }
+            packed++;
+        }
+        for (int i = 0; i < images.length; i++) {
+            ImageCache.getInstance().pin(PAGE_PREFIX + i, images[i]);
+        }
+        log.info(String.format("Sprite atlas: %d sheets into %d page(s), %.1f%% packing efficiency%s",
+                packed, pages.size(), AtlasPacker.efficiency(pages) * 100.0,
+                skipped.isEmpty() ? "" : ", left unpacked: " + skipped));
+    }
+
+    private static void collect(Map<String, List<Sprite>> bySheet, Sprite sprite) {
+        if (sprite != null && sprite.sprite != null && !sprite.sprite.isBlank()) {
+            bySheet.computeIfAbsent(sprite.sprite, k -> new ArrayList<>()).add(sprite);
+        }
+    }
+
+    private static boolean stripsFit(List<Sprite> sprites, int width, int height) {
+        for (Sprite sprite : sprites) {
+            int frames = Math.max(1, sprite.frames);
+            if (sprite.originX + (long) frames * Math.max(1, sprite.frameW) > width
+                    || sprite.originY + Math.max(1, sprite.frameH) > height) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
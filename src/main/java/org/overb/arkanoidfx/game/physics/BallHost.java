@@ -0,0 +1,24 @@
+package org.overb.arkanoidfx.game.physics;
+
+// Owner of a BallSystem slot: the BallComponent of an FXGL entity in the game,
+// a plain object in the headless simulation.
+public interface BallHost {
+
+    int getSlot();
+
+    void assignSlot(int slot);
+
+    // may be null
+    Body getPaddle();
+
+    // top-left corner of the ball after the frame
+    void onMoved(double x, double y);
+
+    void onWallHit();
+
+    // offset is NaN when the ball was already moving up and not reflected
+    void onPaddleHit(double offset);
+
+    // the ball fell out of the arena and has to unregister, lastBall is set for the last one in play
+    void onLost(boolean lastBall);
+}
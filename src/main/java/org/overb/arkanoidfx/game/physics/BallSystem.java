@@ -0,0 +1,741 @@
+package org.overb.arkanoidfx.game.physics;
+
+import lombok.Getter;
+import org.overb.arkanoidfx.enums.Axis;
+import org.overb.arkanoidfx.enums.BallStepMode;
+import org.overb.arkanoidfx.enums.EntityType;
+import org.overb.arkanoidfx.enums.EventType;
+import org.overb.arkanoidfx.enums.ProfilerSection;
+import org.overb.arkanoidfx.game.core.EventBus;
+import org.overb.arkanoidfx.game.core.FrameProfiler;
+import org.overb.arkanoidfx.game.core.GameEvent;
+import org.overb.arkanoidfx.game.jfr.BallStepEvent;
+
+import java.util.Arrays;
+
+// Every ball's state lives in parallel primitive arrays indexed by slot. All balls are stepped in one
+// loop per frame and the resulting positions are pushed back to the ball hosts (views) at the end.
+// In PARALLEL mode the slots are first stepped speculatively on worker threads, then merged in slot order on
+// the game thread: a ball that hit no brick keeps its speculative result and gets its logged wall and paddle
+// impacts applied, a ball that reached a brick is stepped again against the live grid. Bricks are only ever
+// removed during a frame, so a speculation without a brick hit is exactly what SUBSTEPS would have computed.
+public final class BallSystem {
+
+    public static final double BASE_SPEED = 700.0; // pixels/sec at 1080p
+    private static final double MIN_SPEED_MULTIPLIER = 0.5;
+    private static final double MAX_SPEED_MULTIPLIER = 2.4;
+    private static final double STEP_FRACTION_OF_BALL = 0.15;
+    private static final int MAX_SUBSTEPS_PER_FRAME = 64;
+    private static final int MAX_EVENTS_PER_FRAME = 64;
+    private static final double NUDGE = 0.25; // small nudge after bounce to avoid hitting the same brick twice
+    // anti-trap parameters
+    private static final double MIN_ABS_VY = 60.0;      // minimum vertical speed component after any bounce
+    private static final double TINY_JITTER_RAD = 0.02; // small jitter to avoid infinite vertical bouncing
+
+    // the step event is only created while a recording has it enabled, so that a frame stays allocation-free
+    private static final jdk.jfr.EventType STEP_EVENT = jdk.jfr.EventType.getEventType(BallStepEvent.class);
+    private static final BallSystem INSTANCE = new BallSystem();
+
+    @Getter
+    private BallStepMode stepMode = BallStepMode.SUBSTEPS;
+    @Getter
+    private int count;
+    private BallHost[] owners = new BallHost[0];
+    private boolean[] alive = new boolean[0];
+    private boolean[] launched = new boolean[0];
+    private boolean[] lost = new boolean[0];
+    private double[] x = new double[0];
+    private double[] y = new double[0];
+    private double[] vx = new double[0];
+    private double[] vy = new double[0];
+    private double[] speedMultiplier = new double[0];
+    private double[] halfW = new double[0];
+    private double[] halfH = new double[0];
+    private double[] radius = new double[0];
+    private SweepHit[] hits = new SweepHit[0];
+    private ImpactLog[] impacts = new ImpactLog[0];
+    // event-driven state, only used in BallStepMode.EVENT_DRIVEN
+    private double[] kineticTime = new double[0];
+    private int[] kineticEvents = new int[0];
+    private int[] predictedGridVersion = new int[0];
+    // substeps taken by each ball in the current frame, only read for the BallStepEvent
+    private int[] substeps = new int[0];
+    // PARALLEL only: second copy of the mutable ball state, swapped with the live arrays around the workers
+    private boolean[] shadowLost = new boolean[0];
+    private double[] shadowX = new double[0];
+    private double[] shadowY = new double[0];
+    private double[] shadowVx = new double[0];
+    private double[] shadowVy = new double[0];
+    private double[] shadowSpeedMultiplier = new double[0];
+
+    private final KineticBallScheduler kinetic = new KineticBallScheduler(this);
+    private final ParallelBallStepper parallel = new ParallelBallStepper(this);
+    private BallHost[] lostOwners = new BallHost[0];
+    private boolean stepping;
+    // set while worker threads step the balls, wall and paddle impacts are then logged and brick hits stop the ball
+    private boolean deferImpacts;
+    // paddle box, read once per frame
+    private Body cachedPaddle;
+    private double paddleMinX;
+    private double paddleMinY;
+    private double paddleMaxX;
+    private double paddleMaxY;
+
+    public static BallSystem getInstance() {
+        return INSTANCE;
+    }
+
+    // the worker threads only run while the mode is PARALLEL
+    public void setStepMode(BallStepMode stepMode) {
+        this.stepMode = stepMode;
+        if (stepMode != BallStepMode.PARALLEL) {
+            parallel.stop();
+        }
+    }
+
+    public int getWorkers() {
+        return parallel.getWorkers();
+    }
+
+    // number of worker threads for BallStepMode.PARALLEL, 0 uses one per available core;
+    // the threads are started by the first PARALLEL frame
+    public void setWorkers(int workers) {
+        parallel.setWorkers(workers);
+    }
+
+    // x, y is the top-left corner of the ball
+    public int register(BallHost owner, double x, double y, double width, double height) {
+        if (count == owners.length) {
+            grow(Math.max(32, count * 2));
+        }
+        int slot = count++;
+        owners[slot] = owner;
+        alive[slot] = true;
+        launched[slot] = false;
+        lost[slot] = false;
+        halfW[slot] = width / 2.0;
+        halfH[slot] = height / 2.0;
+        radius[slot] = Math.min(halfW[slot], halfH[slot]);
+        this.x[slot] = x + halfW[slot];
+        this.y[slot] = y + halfH[slot];
+        vx[slot] = 0.0;
+        vy[slot] = 0.0;
+        speedMultiplier[slot] = 1.0;
+        hits[slot].reset();
+        impacts[slot].clear();
+        return slot;
+    }
+
+    public void unregister(BallHost owner) {
+        int slot = owner.getSlot();
+        if (slot < 0 || slot >= count || owners[slot] != owner) {
+            return;
+        }
+        alive[slot] = false;
+        owner.assignSlot(-1);
+        if (!stepping) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        int write = 0;
+        for (int read = 0; read < count; read++) {
+            if (!alive[read]) {
+                owners[read] = null;
+                continue;
+            }
+            if (write != read) {
+                moveSlot(read, write);
+                owners[write].assignSlot(write);
+            }
+            write++;
+        }
+        count = write;
+    }
+
+    private void moveSlot(int from, int to) {
+        owners[to] = owners[from];
+        owners[from] = null;
+        alive[to] = alive[from];
+        alive[from] = false;
+        launched[to] = launched[from];
+        lost[to] = lost[from];
+        x[to] = x[from];
+        y[to] = y[from];
+        vx[to] = vx[from];
+        vy[to] = vy[from];
+        speedMultiplier[to] = speedMultiplier[from];
+        halfW[to] = halfW[from];
+        halfH[to] = halfH[from];
+        radius[to] = radius[from];
+        kineticTime[to] = kineticTime[from];
+        kineticEvents[to] = kineticEvents[from];
+        predictedGridVersion[to] = predictedGridVersion[from];
+        // swap the hit records so every slot keeps its own instance
+        SweepHit tmp = hits[to];
+        hits[to] = hits[from];
+        hits[from] = tmp;
+        ImpactLog log = impacts[to];
+        impacts[to] = impacts[from];
+        impacts[from] = log;
+    }
+
+    private void grow(int capacity) {
+        int old = owners.length;
+        owners = Arrays.copyOf(owners, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+        launched = Arrays.copyOf(launched, capacity);
+        lost = Arrays.copyOf(lost, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        speedMultiplier = Arrays.copyOf(speedMultiplier, capacity);
+        halfW = Arrays.copyOf(halfW, capacity);
+        halfH = Arrays.copyOf(halfH, capacity);
+        radius = Arrays.copyOf(radius, capacity);
+        kineticTime = Arrays.copyOf(kineticTime, capacity);
+        kineticEvents = Arrays.copyOf(kineticEvents, capacity);
+        predictedGridVersion = Arrays.copyOf(predictedGridVersion, capacity);
+        substeps = Arrays.copyOf(substeps, capacity);
+        shadowLost = Arrays.copyOf(shadowLost, capacity);
+        shadowX = Arrays.copyOf(shadowX, capacity);
+        shadowY = Arrays.copyOf(shadowY, capacity);
+        shadowVx = Arrays.copyOf(shadowVx, capacity);
+        shadowVy = Arrays.copyOf(shadowVy, capacity);
+        shadowSpeedMultiplier = Arrays.copyOf(shadowSpeedMultiplier, capacity);
+        hits = Arrays.copyOf(hits, capacity);
+        impacts = Arrays.copyOf(impacts, capacity);
+        for (int i = old; i < capacity; i++) {
+            hits[i] = new SweepHit();
+            impacts[i] = new ImpactLog();
+        }
+        lostOwners = Arrays.copyOf(lostOwners, capacity);
+    }
+
+    public void step(double timePerFrame) {
+        BallStepEvent event = STEP_EVENT.isEnabled() ? new BallStepEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        compact();
+        stepping = true;
+        try {
+            for (int slot = 0; slot < count; slot++) {
+                if (alive[slot] && !launched[slot]) {
+                    followPaddle(slot);
+                }
+            }
+            cachePaddle();
+            if (stepMode == BallStepMode.EVENT_DRIVEN) {
+                kinetic.step(timePerFrame);
+            } else if (stepMode == BallStepMode.PARALLEL && parallel.isParallel(count)) {
+                stepSpeculatively(timePerFrame);
+            } else {
+                for (int slot = 0; slot < count; slot++) {
+                    stepSlot(slot, timePerFrame);
+                }
+            }
+        } finally {
+            stepping = false;
+        }
+        if (event != null && event.shouldCommit()) {
+            event.mode = stepMode.name();
+            event.balls = count;
+            event.substeps = countSubsteps();
+            event.frameTime = timePerFrame;
+        }
+        pushToViews();
+        removeLostBalls();
+        compact();
+        if (event != null) {
+            event.commit();
+        }
+    }
+
+    private int countSubsteps() {
+        int total = 0;
+        for (int slot = 0; slot < count; slot++) {
+            total += stepMode == BallStepMode.EVENT_DRIVEN ? kineticEvents[slot] : substeps[slot];
+        }
+        return total;
+    }
+
+    private void followPaddle(int slot) {
+        Body paddle = owners[slot].getPaddle();
+        if (paddle == null) {
+            return;
+        }
+        x[slot] = paddle.getX() + paddle.getWidth() / 2.0;
+        y[slot] = paddle.getY() - halfH[slot] * 2.0 - 4.0 + halfH[slot];
+    }
+
+    private void cachePaddle() {
+        cachedPaddle = null;
+        for (int slot = 0; slot < count; slot++) {
+            Body paddle = alive[slot] ? owners[slot].getPaddle() : null;
+            if (paddle != null) {
+                cachedPaddle = paddle;
+                paddleMinX = paddle.getX();
+                paddleMinY = paddle.getY();
+                paddleMaxX = paddleMinX + paddle.getWidth();
+                paddleMaxY = paddleMinY + paddle.getHeight();
+                return;
+            }
+        }
+    }
+
+    void stepSlot(int slot, double timePerFrame) {
+        substeps[slot] = 0;
+        if (isActive(slot) && launched[slot]) {
+            moveWithSubsteps(slot, timePerFrame);
+        }
+    }
+
+    private void stepSpeculatively(double timePerFrame) {
+        int frameCount = count;
+        System.arraycopy(lost, 0, shadowLost, 0, frameCount);
+        System.arraycopy(x, 0, shadowX, 0, frameCount);
+        System.arraycopy(y, 0, shadowY, 0, frameCount);
+        System.arraycopy(vx, 0, shadowVx, 0, frameCount);
+        System.arraycopy(vy, 0, shadowVy, 0, frameCount);
+        System.arraycopy(speedMultiplier, 0, shadowSpeedMultiplier, 0, frameCount);
+        deferImpacts = true;
+        try {
+            parallel.step(frameCount, timePerFrame);
+        } finally {
+            deferImpacts = false;
+        }
+        // the live arrays go back to the frame start state, the shadow arrays now hold the speculation
+        swapShadow();
+        for (int slot = 0; slot < frameCount; slot++) {
+            ImpactLog log = impacts[slot];
+            if (log.brickHit) {
+                stepSlot(slot, timePerFrame);
+            } else {
+                lost[slot] = shadowLost[slot];
+                x[slot] = shadowX[slot];
+                y[slot] = shadowY[slot];
+                vx[slot] = shadowVx[slot];
+                vy[slot] = shadowVy[slot];
+                speedMultiplier[slot] = shadowSpeedMultiplier[slot];
+                for (int i = 0; i < log.size; i++) {
+                    applyImpact(slot, log.targets[i], null, log.offsets[i]);
+                }
+            }
+            log.clear();
+        }
+    }
+
+    private void swapShadow() {
+        boolean[] flags = lost;
+        lost = shadowLost;
+        shadowLost = flags;
+        double[] values = x;
+        x = shadowX;
+        shadowX = values;
+        values = y;
+        y = shadowY;
+        shadowY = values;
+        values = vx;
+        vx = shadowVx;
+        shadowVx = values;
+        values = vy;
+        vy = shadowVy;
+        shadowVy = values;
+        values = speedMultiplier;
+        speedMultiplier = shadowSpeedMultiplier;
+        shadowSpeedMultiplier = values;
+    }
+
+    private void applyImpact(int slot, EntityType target, BrickBody brick, double paddleOffset) {
+        switch (target) {
+            case PADDLE:
+                owners[slot].onPaddleHit(paddleOffset);
+                break;
+            case BRICK:
+                FrameProfiler profiler = FrameProfiler.getInstance();
+                long start = profiler.begin();
+                brick.onBallHit(slot);
+                profiler.end(ProfilerSection.BRICK_HITS, start);
+                break;
+            default:
+                owners[slot].onWallHit();
+                break;
+        }
+    }
+
+    private void onImpact(int slot, EntityType target, BrickBody brick, double paddleOffset) {
+        if (deferImpacts) {
+            impacts[slot].add(target, paddleOffset);
+        } else {
+            applyImpact(slot, target, brick, paddleOffset);
+        }
+    }
+
+    private void pushToViews() {
+        for (int slot = 0; slot < count; slot++) {
+            if (!alive[slot]) {
+                continue;
+            }
+            owners[slot].onMoved(x[slot] - halfW[slot], y[slot] - halfH[slot]);
+        }
+    }
+
+    private void removeLostBalls() {
+        int lostCount = 0;
+        int survivors = 0;
+        for (int slot = 0; slot < count; slot++) {
+            if (alive[slot] && lost[slot]) {
+                lostOwners[lostCount++] = owners[slot];
+            } else if (alive[slot]) {
+                survivors++;
+            }
+        }
+        if (lostCount == 0) {
+            return;
+        }
+        for (int i = 0; i < lostCount; i++) {
+            BallHost owner = lostOwners[i];
+            lostOwners[i] = null;
+            unregister(owner);
+            owner.onLost(survivors == 0 && i == lostCount - 1);
+        }
+        if (survivors == 0) {
+            EventBus.publish(GameEvent.of(EventType.BALL_LOST));
+        }
+    }
+
+    boolean isActive(int slot) {
+        return alive[slot] && !lost[slot];
+    }
+
+    private void moveWithSubsteps(int slot, double timePerFrame) {
+        double speed = Math.hypot(vx[slot], vy[slot]);
+        if (speed <= 0) return;
+        double ballSize = Math.max(halfW[slot], halfH[slot]) * 2.0;
+        double maxStep = Math.max(1.0, ballSize * STEP_FRACTION_OF_BALL);
+        int steps = (int) Math.ceil((speed * timePerFrame) / maxStep);
+        steps = Math.min(steps, MAX_SUBSTEPS_PER_FRAME);
+        substeps[slot] = steps;
+        SweepHit hit = hits[slot];
+        double remainingFrameTime = timePerFrame;
+        for (int i = 0; i < steps && remainingFrameTime > 0; i++) {
+            // slice time per substep to not exceed the frame
+            double sliceTime = Math.min(remainingFrameTime, maxStep / Math.max(1e-6, speed));
+            remainingFrameTime -= sliceTime;
+            // there may be multiple collisions within this slice if the ball is fast
+            double timeLeft = sliceTime;
+            for (int guard = 0; guard < 8 && timeLeft > 1e-6; guard++) {
+                double vLen = Math.hypot(vx[slot], vy[slot]);
+                if (vLen < 1e-6) {
+                    break;
+                }
+                double dirX = vx[slot] / vLen;
+                double dirY = vy[slot] / vLen;
+                double maxTravel = vLen * timeLeft;
+
+                // find the earliest time of impact
+                findEarliestTOI(slot, dirX, dirY, maxTravel);
+                if (!hit.isHit() || hit.distance > maxTravel) {
+                    // no hit this time, continue
+                    x[slot] += dirX * maxTravel;
+                    y[slot] += dirY * maxTravel;
+                    break;
+                }
+                if (!advanceAndResolveHit(slot, dirX, dirY)) {
+                    return;
+                }
+                // consume the time associated with the distance at the previous ball velocity
+                double usedTime = hit.distance / vLen;
+                timeLeft = Math.max(0, timeLeft - usedTime);
+            }
+        }
+    }
+
+    // moves the ball onto the impact stored in its hit record and applies it, returns false if the ball was lost
+    // or, while speculating, reached a brick
+    private boolean advanceAndResolveHit(int slot, double dirX, double dirY) {
+        SweepHit hit = hits[slot];
+        if (deferImpacts && hit.target == EntityType.BRICK) {
+            impacts[slot].brickHit = true;
+            return false;
+        }
+        double travel = Math.max(0, hit.distance - 1e-4); // tiny epsilon to avoid initial overlap
+        x[slot] += dirX * travel;
+        y[slot] += dirY * travel;
+        switch (hit.target) {
+            case WALL_LEFT:
+                if (vx[slot] <= 0) {
+                    bounceHorizontal(slot);
+                    onImpact(slot, hit.target, null, Double.NaN);
+                }
+                break;
+            case WALL_RIGHT:
+                if (vx[slot] >= 0) {
+                    bounceHorizontal(slot);
+                    onImpact(slot, hit.target, null, Double.NaN);
+                }
+                break;
+            case WALL_TOP:
+                if (vy[slot] <= 0) {
+                    bounceVertical(slot);
+                    onImpact(slot, hit.target, null, Double.NaN);
+                }
+                break;
+            case WALL_SAFETY:
+                bounceVertical(slot);
+                onImpact(slot, hit.target, null, Double.NaN);
+                break;
+            case WALL_BOTTOM_SENSOR:
+                lost[slot] = true;
+                return false;
+            case PADDLE:
+                double offset = reflectFromPaddle(slot, (hit.minX + hit.maxX) / 2.0, hit.maxX - hit.minX);
+                onImpact(slot, EntityType.PADDLE, null, offset);
+                break;
+            case BRICK:
+                onImpact(slot, EntityType.BRICK, hit.brick, Double.NaN);
+                Axis ax = SweepMath.chooseBounceAxisCircleRect(x[slot], y[slot], hit.minX, hit.minY, hit.maxX, hit.maxY);
+                if (ax == Axis.HORIZONTAL) {
+                    bounceHorizontal(slot);
+                } else {
+                    bounceVertical(slot);
+                }
+                break;
+        }
+        enforceMinVerticalComponent(slot);
+        // nudge to avoid recollision with same brick next frame
+        double newLen = Math.hypot(vx[slot], vy[slot]);
+        if (newLen < 1e-6) {
+            y[slot] -= NUDGE;
+        } else {
+            x[slot] += vx[slot] / newLen * NUDGE;
+            y[slot] += vy[slot] / newLen * NUDGE;
+        }
+        return true;
+    }
+
+    public void findEarliestTOI(int slot, double dirX, double dirY, double maxDistance) {
+        SweepHit hit = hits[slot];
+        hit.reset();
+        double cx = x[slot];
+        double cy = y[slot];
+        double r = radius[slot];
+
+        // Walls
+        WallPlanes.getInstance().sweep(cx, cy, dirX, dirY, r, maxDistance, vy[slot], hit);
+
+        // paddle (only if moving down)
+        Body paddle = owners[slot].getPaddle();
+        if (paddle != null && paddle.isActive() && vy[slot] > 0) {
+            double pMinX = paddleMinX;
+            double pMinY = paddleMinY;
+            double pMaxX = paddleMaxX;
+            double pMaxY = paddleMaxY;
+            if (paddle != cachedPaddle) {
+                pMinX = paddle.getX();
+                pMinY = paddle.getY();
+                pMaxX = pMinX + paddle.getWidth();
+                pMaxY = pMinY + paddle.getHeight();
+            }
+            double distance = SweepMath.sweepCircleAgainstAABB(cx, cy, dirX, dirY, r, pMinX, pMinY, pMaxX, pMaxY);
+            if (distance <= maxDistance && distance < hit.distance) {
+                hit.set(distance, EntityType.PADDLE, null, pMinX, pMinY, pMaxX, pMaxY);
+            }
+        }
+
+        // bricks
+        BrickGrid.getInstance().sweep(cx, cy, dirX, dirY, r, maxDistance, hit);
+    }
+
+    boolean beginKineticFrame(int slot) {
+        if (!launched[slot] || !isActive(slot)) {
+            return false;
+        }
+        kineticTime[slot] = 0.0;
+        kineticEvents[slot] = 0;
+        return true;
+    }
+
+    // absolute frame time of the next impact, or SweepMath.MISS if nothing is hit before the frame ends
+    double predictImpact(int slot, double frameTime) {
+        double vLen = Math.hypot(vx[slot], vy[slot]);
+        predictedGridVersion[slot] = BrickGrid.getInstance().getModCount();
+        if (vLen < 1e-6 || kineticEvents[slot] >= MAX_EVENTS_PER_FRAME) {
+            hits[slot].reset();
+            return SweepMath.MISS;
+        }
+        findEarliestTOI(slot, vx[slot] / vLen, vy[slot] / vLen, vLen * Math.max(0.0, frameTime - kineticTime[slot]));
+        if (!hits[slot].isHit()) {
+            return SweepMath.MISS;
+        }
+        return kineticTime[slot] + hits[slot].distance / vLen;
+    }
+
+    boolean isPredictionStale(int slot) {
+        return predictedGridVersion[slot] != BrickGrid.getInstance().getModCount();
+    }
+
+    boolean resolveImpact(int slot, double time) {
+        double vLen = Math.hypot(vx[slot], vy[slot]);
+        kineticTime[slot] = time;
+        kineticEvents[slot]++;
+        if (vLen < 1e-6) {
+            return true;
+        }
+        return advanceAndResolveHit(slot, vx[slot] / vLen, vy[slot] / vLen);
+    }
+
+    void endKineticFrame(int slot, double frameTime) {
+        // a ball that ran out of events this frame stays put rather than tunnelling
+        if (kineticEvents[slot] < MAX_EVENTS_PER_FRAME) {
+            double remaining = Math.max(0.0, frameTime - kineticTime[slot]);
+            x[slot] += vx[slot] * remaining;
+            y[slot] += vy[slot] * remaining;
+        }
+        kineticTime[slot] = frameTime;
+    }
+
+    public void enforceMinVerticalComponent(int slot) {
+        double speed = Math.hypot(vx[slot], vy[slot]);
+        if (speed <= 1e-6) return;
+        if (Math.abs(vy[slot]) < MIN_ABS_VY) {
+            double signY = (vy[slot] >= 0) ? 1.0 : -1.0;
+            double newVy = signY * MIN_ABS_VY;
+            double vxSign = Math.signum(vx[slot] == 0 ? 1 : vx[slot]);
+            vx[slot] = Math.sqrt(Math.max(0.0, speed * speed - newVy * newVy)) * vxSign;
+            vy[slot] = newVy;
+            if (Math.abs(vy[slot]) < MIN_ABS_VY * 0.75) {
+                rotateVelocity(slot, (newVy >= 0 ? 1 : -1) * TINY_JITTER_RAD);
+            }
+        }
+    }
+
+    public boolean isLaunched(int slot) {
+        return launched[slot];
+    }
+
+    public void launch(int slot) {
+        if (launched[slot]) return;
+        launched[slot] = true;
+        vx[slot] = 0;
+        vy[slot] = -BASE_SPEED;
+    }
+
+    public void launchWithVelocity(int slot, double velocityX, double velocityY) {
+        launched[slot] = true;
+        vx[slot] = velocityX;
+        vy[slot] = velocityY;
+    }
+
+    public double getVelocityX(int slot) {
+        return vx[slot];
+    }
+
+    public double getVelocityY(int slot) {
+        return vy[slot];
+    }
+
+    public void setVelocity(int slot, double velocityX, double velocityY) {
+        vx[slot] = velocityX;
+        vy[slot] = velocityY;
+    }
+
+    public void setCenter(int slot, double centerX, double centerY) {
+        x[slot] = centerX;
+        y[slot] = centerY;
+    }
+
+    public double getSpeed(int slot) {
+        return Math.hypot(vx[slot], vy[slot]);
+    }
+
+    public double findMaxSpeed() {
+        double max = 0.0;
+        for (int slot = 0; slot < count; slot++) {
+            if (alive[slot]) {
+                max = Math.max(max, Math.hypot(vx[slot], vy[slot]));
+            }
+        }
+        return max;
+    }
+
+    public void bounceHorizontal(int slot) {
+        vx[slot] = -vx[slot];
+    }
+
+    public void bounceVertical(int slot) {
+        vy[slot] = -vy[slot];
+    }
+
+    public void rotateVelocity(int slot, double angleRad) {
+        double c = Math.cos(angleRad);
+        double s = Math.sin(angleRad);
+        double nx = vx[slot] * c - vy[slot] * s;
+        double ny = vx[slot] * s + vy[slot] * c;
+        vx[slot] = nx;
+        vy[slot] = ny;
+    }
+
+    // returns the normalized hit offset on the paddle, or NaN when the ball was not reflected
+    public double reflectFromPaddle(int slot, double paddleCenterX, double paddleWidth) {
+        if (vy[slot] <= 0) {
+            return Double.NaN;
+        }
+        double offset = (x[slot] - paddleCenterX) / (paddleWidth / 2.0);
+        offset = Math.max(-1.0, Math.min(1.0, offset));
+        double maxH = 0.85;
+        double minH = 0.06;
+        double dx = offset * maxH;
+        if (Math.abs(dx) < minH) {
+            double sign = (Math.abs(offset) >= 1e-6) ? Math.signum(offset) : ((Math.abs(vx[slot]) >= 1e-6) ? Math.signum(vx[slot]) : 1.0);
+            dx = sign * minH;
+        }
+        double dy = -Math.sqrt(Math.max(0.0, 1.0 - dx * dx));
+        double currentSpeed = Math.hypot(vx[slot], vy[slot]);
+        double baseline = Math.max(currentSpeed, BASE_SPEED * speedMultiplier[slot]);
+        double angleFactor = Math.abs(offset);
+        double gain = 1.0 + (1.0 - angleFactor) * 0.06;
+        double unclamped = baseline * gain;
+        double maxSpeed = BASE_SPEED * MAX_SPEED_MULTIPLIER;
+        double newSpeed = Math.min(unclamped, maxSpeed);
+        speedMultiplier[slot] = clamp(newSpeed / BASE_SPEED);
+        setSpeedDir(slot, dx, dy, newSpeed);
+        return offset;
+    }
+
+    public void boostSpeedByFactor(int slot, double factor) {
+        if (factor <= 0) {
+            return;
+        }
+        double currentSpeed = Math.hypot(vx[slot], vy[slot]);
+        double desiredMultiplier = clamp(speedMultiplier[slot] * factor);
+        double desiredSpeed = BASE_SPEED * desiredMultiplier;
+        double newSpeed;
+        if (factor >= 1.0) {
+            newSpeed = Math.max(currentSpeed, desiredSpeed);
+            speedMultiplier[slot] = clamp(newSpeed / BASE_SPEED);
+        } else {
+            speedMultiplier[slot] = desiredMultiplier;
+            newSpeed = desiredSpeed;
+        }
+        setSpeedDir(slot, vx[slot], vy[slot], newSpeed);
+    }
+
+    private static double clamp(double velocity) {
+        return Math.max(MIN_SPEED_MULTIPLIER, Math.min(MAX_SPEED_MULTIPLIER, velocity));
+    }
+
+    private void setSpeedDir(int slot, double dirX, double dirY, double speed) {
+        double len = Math.hypot(dirX, dirY);
+        if (len < 1e-6) {
+            vx[slot] = 0;
+            vy[slot] = -speed;
+        } else {
+            vx[slot] = dirX / len * speed;
+            vy[slot] = dirY / len * speed;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.overb.arkanoidfx.game.physics;
+
+// Earliest swept-circle hit over packed box arrays. The vectorized kernel is only built by the vector profile
+// (src/vector/java) and needs the incubator module at runtime; without either the scalar kernel is used.
+interface BatchSweep {
+
+    // index in [from, to) of the earliest box hit within maxDistance, lowest index on ties, or -1
+    int earliest(double cx, double cy, double dirX, double dirY, double r, double maxDistance,
+                 double[] minX, double[] minY, double[] maxX, double[] maxY, int from, int to);
+
+    boolean isVectorized();
+
+    static BatchSweep scalar() {
+        return ScalarBatchSweep.INSTANCE;
+    }
+
+    static BatchSweep load() {
+        try {
+            Class<?> type = Class.forName("org.overb.arkanoidfx.game.physics.VectorBatchSweep");
+            return (BatchSweep) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return scalar();
+        }
+    }
+}
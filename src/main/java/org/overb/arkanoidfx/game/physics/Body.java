@@ -0,0 +1,15 @@
+package org.overb.arkanoidfx.game.physics;
+
+// axis-aligned box the balls collide with and follow before launch, i.e. the paddle
+public interface Body {
+
+    double getX();
+
+    double getY();
+
+    double getWidth();
+
+    double getHeight();
+
+    boolean isActive();
+}
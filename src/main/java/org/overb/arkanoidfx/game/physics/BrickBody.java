@@ -0,0 +1,9 @@
+package org.overb.arkanoidfx.game.physics;
+
+public interface BrickBody {
+
+    boolean isDestroyed();
+
+    // ballSlot is the BallSystem slot of the ball that hit the brick
+    void onBallHit(int ballSlot);
+}
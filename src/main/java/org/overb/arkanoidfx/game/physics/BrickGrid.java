@@ -0,0 +1,281 @@
+package org.overb.arkanoidfx.game.physics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.overb.arkanoidfx.enums.BrickSweepMode;
+import org.overb.arkanoidfx.enums.EntityType;
+
+import java.util.Arrays;
+
+public final class BrickGrid {
+
+    private static final BrickGrid INSTANCE = new BrickGrid();
+    private static final double EMPTY_CELL = -1e9;
+
+    @Getter
+    private int cols;
+    @Getter
+    private int rows;
+    @Getter
+    private double cellW = 1.0;
+    @Getter
+    private double cellH = 1.0;
+    @Getter
+    private int liveCount;
+    // bumped on every structural change so that cached sweep results can be invalidated
+    @Getter
+    private int modCount;
+    @Getter
+    @Setter
+    private BrickSweepMode sweepMode = BrickSweepMode.BROADPHASE;
+    private BrickBody[] cells = new BrickBody[0];
+    // cell boxes packed for the batch sweep, empty cells are parked far outside of any reachable distance
+    private double[] packedMinX = new double[0];
+    private double[] packedMinY = new double[0];
+    private double[] packedMaxX = new double[0];
+    private double[] packedMaxY = new double[0];
+    private BatchSweep batch = BatchSweep.load();
+
+    public static BrickGrid getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isBatchVectorized() {
+        return batch.isVectorized();
+    }
+
+    // the vectorized kernel is only used when it was built (-Pvector) and the jdk.incubator.vector module is present
+    public void setBatchVectorized(boolean vectorized) {
+        batch = vectorized ? BatchSweep.load() : BatchSweep.scalar();
+    }
+
+    public void reset(int cols, int rows, double cellW, double cellH) {
+        this.cols = Math.max(0, cols);
+        this.rows = Math.max(0, rows);
+        this.cellW = Math.max(1e-6, cellW);
+        this.cellH = Math.max(1e-6, cellH);
+        int size = this.cols * this.rows;
+        if (cells.length != size) {
+            cells = new BrickBody[size];
+            packedMinX = new double[size];
+            packedMinY = new double[size];
+            packedMaxX = new double[size];
+            packedMaxY = new double[size];
+        } else {
+            Arrays.fill(cells, null);
+        }
+        clearPacked();
+        liveCount = 0;
+        modCount++;
+    }
+
+    public void clear() {
+        Arrays.fill(cells, null);
+        clearPacked();
+        liveCount = 0;
+        modCount++;
+    }
+
+    private void clearPacked() {
+        Arrays.fill(packedMinX, EMPTY_CELL);
+        Arrays.fill(packedMinY, EMPTY_CELL);
+        Arrays.fill(packedMaxX, EMPTY_CELL);
+        Arrays.fill(packedMaxY, EMPTY_CELL);
+    }
+
+    public boolean put(int col, int row, BrickBody brick) {
+        if (!contains(col, row) || brick == null) {
+            return false;
+        }
+        int index = row * cols + col;
+        if (cells[index] != null) {
+            return false;
+        }
+        cells[index] = brick;
+        packedMinX[index] = col * cellW;
+        packedMinY[index] = row * cellH;
+        packedMaxX[index] = packedMinX[index] + cellW;
+        packedMaxY[index] = packedMinY[index] + cellH;
+        liveCount++;
+        modCount++;
+        return true;
+    }
+
+    public void remove(int col, int row, BrickBody brick) {
+        if (!contains(col, row)) {
+            return;
+        }
+        int index = row * cols + col;
+        if (cells[index] == brick && brick != null) {
+            cells[index] = null;
+            packedMinX[index] = EMPTY_CELL;
+            packedMinY[index] = EMPTY_CELL;
+            packedMaxX[index] = EMPTY_CELL;
+            packedMaxY[index] = EMPTY_CELL;
+            liveCount--;
+            modCount++;
+        }
+    }
+
+    public BrickBody get(int col, int row) {
+        if (!contains(col, row)) {
+            return null;
+        }
+        return cells[row * cols + col];
+    }
+
+    public boolean contains(int col, int row) {
+        return col >= 0 && row >= 0 && col < cols && row < rows;
+    }
+
+    public int colAt(double x) {
+        return (int) Math.floor(x / cellW);
+    }
+
+    public int rowAt(double y) {
+        return (int) Math.floor(y / cellH);
+    }
+
+    // Sweeps a circle against the live bricks and records the earliest impact in hit,
+    // but only when it is closer than what hit already holds (walls, paddle).
+    public void sweep(double cx, double cy, double dirX, double dirY, double r, double maxDistance, SweepHit hit) {
+        if (liveCount <= 0) {
+            return;
+        }
+        switch (sweepMode) {
+            case BRUTE_FORCE -> sweepAll(cx, cy, dirX, dirY, r, maxDistance, hit);
+            case BROADPHASE -> sweepBoundingBox(cx, cy, dirX, dirY, r, maxDistance, hit);
+            case GRID_TRAVERSAL -> sweepTraversal(cx, cy, dirX, dirY, r, maxDistance, hit);
+            case BATCH -> sweepBatch(cx, cy, dirX, dirY, r, maxDistance, hit);
+        }
+    }
+
+    // Same bounding box as the broadphase, but each row segment is contiguous in the packed arrays
+    // and goes through the batch kernel in one call instead of one slab test per cell.
+    private void sweepBatch(double cx, double cy, double dirX, double dirY, double r, double maxDistance, SweepHit hit) {
+        double endX = cx + dirX * maxDistance;
+        double endY = cy + dirY * maxDistance;
+        int minCol = Math.max(0, colAt(Math.min(cx, endX) - r));
+        int maxCol = Math.min(cols - 1, colAt(Math.max(cx, endX) + r));
+        int minRow = Math.max(0, rowAt(Math.min(cy, endY) - r));
+        int maxRow = Math.min(rows - 1, rowAt(Math.max(cy, endY) + r));
+        if (minCol > maxCol) {
+            return;
+        }
+        for (int row = minRow; row <= maxRow; row++) {
+            int rowStart = row * cols;
+            int index = batch.earliest(cx, cy, dirX, dirY, r, Math.min(maxDistance, hit.distance),
+                    packedMinX, packedMinY, packedMaxX, packedMaxY, rowStart + minCol, rowStart + maxCol + 1);
+            if (index >= 0) {
+                testCell(index - rowStart, row, cx, cy, dirX, dirY, r, maxDistance, hit);
+            }
+        }
+    }
+
+    private void sweepAll(double cx, double cy, double dirX, double dirY, double r, double maxDistance, SweepHit hit) {
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                testCell(col, row, cx, cy, dirX, dirY, r, maxDistance, hit);
+            }
+        }
+    }
+
+    private void sweepBoundingBox(double cx, double cy, double dirX, double dirY, double r, double maxDistance, SweepHit hit) {
+        double endX = cx + dirX * maxDistance;
+        double endY = cy + dirY * maxDistance;
+        int minCol = Math.max(0, colAt(Math.min(cx, endX) - r));
+        int maxCol = Math.min(cols - 1, colAt(Math.max(cx, endX) + r));
+        int minRow = Math.max(0, rowAt(Math.min(cy, endY) - r));
+        int maxRow = Math.min(rows - 1, rowAt(Math.max(cy, endY) + r));
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                testCell(col, row, cx, cy, dirX, dirY, r, maxDistance, hit);
+            }
+        }
+    }
+
+    // Amanatides-Woo walk of the ball center through the cells. Bricks are expanded by the radius,
+    // so every visited cell also tests the neighbours that the expanded boxes reach into.
+    private void sweepTraversal(double cx, double cy, double dirX, double dirY, double r, double maxDistance, SweepHit hit) {
+        // clip the ray to the grid bounds expanded by the radius
+        double tIn = 0.0;
+        double tOut = maxDistance;
+        double gridW = cols * cellW;
+        double gridH = rows * cellH;
+        if (Math.abs(dirX) < 1e-8) {
+            if (cx < -r || cx > gridW + r) return;
+        } else {
+            double t1 = (-r - cx) / dirX;
+            double t2 = (gridW + r - cx) / dirX;
+            tIn = Math.max(tIn, Math.min(t1, t2));
+            tOut = Math.min(tOut, Math.max(t1, t2));
+        }
+        if (Math.abs(dirY) < 1e-8) {
+            if (cy < -r || cy > gridH + r) return;
+        } else {
+            double t1 = (-r - cy) / dirY;
+            double t2 = (gridH + r - cy) / dirY;
+            tIn = Math.max(tIn, Math.min(t1, t2));
+            tOut = Math.min(tOut, Math.max(t1, t2));
+        }
+        if (tIn > tOut) {
+            return;
+        }
+        int reachX = (int) Math.ceil(r / cellW);
+        int reachY = (int) Math.ceil(r / cellH);
+        int col = colAt(cx + dirX * tIn);
+        int row = rowAt(cy + dirY * tIn);
+        int stepX = dirX > 1e-8 ? 1 : (dirX < -1e-8 ? -1 : 0);
+        int stepY = dirY > 1e-8 ? 1 : (dirY < -1e-8 ? -1 : 0);
+        double tDeltaX = stepX != 0 ? cellW / Math.abs(dirX) : Double.POSITIVE_INFINITY;
+        double tDeltaY = stepY != 0 ? cellH / Math.abs(dirY) : Double.POSITIVE_INFINITY;
+        double tMaxX = stepX > 0 ? ((col + 1) * cellW - cx) / dirX : (stepX < 0 ? (col * cellW - cx) / dirX : Double.POSITIVE_INFINITY);
+        double tMaxY = stepY > 0 ? ((row + 1) * cellH - cy) / dirY : (stepY < 0 ? (row * cellH - cy) / dirY : Double.POSITIVE_INFINITY);
+        while (true) {
+            for (int nr = row - reachY; nr <= row + reachY; nr++) {
+                for (int nc = col - reachX; nc <= col + reachX; nc++) {
+                    testCell(nc, nr, cx, cy, dirX, dirY, r, maxDistance, hit);
+                }
+            }
+            double cellExit = Math.min(tMaxX, tMaxY);
+            // nothing further along the ray can be closer than a hit inside the cells walked so far,
+            // a hit right on the exit can still tie with a lower-index brick in the next cell
+            if (hit.distance < cellExit || cellExit > tOut) {
+                return;
+            }
+            if (tMaxX < tMaxY) {
+                col += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                row += stepY;
+                tMaxY += tDeltaY;
+            }
+        }
+    }
+
+    private void testCell(int col, int row, double cx, double cy, double dirX, double dirY, double r, double maxDistance, SweepHit hit) {
+        BrickBody brick = get(col, row);
+        if (brick == null || brick.isDestroyed()) {
+            return;
+        }
+        double minX = col * cellW;
+        double minY = row * cellH;
+        double maxX = minX + cellW;
+        double maxY = minY + cellH;
+        double distance = SweepMath.sweepCircleAgainstAABB(cx, cy, dirX, dirY, r, minX, minY, maxX, maxY);
+        if (distance > maxDistance) {
+            return;
+        }
+        // equal distances go to the lowest row-major index, the order in which BRUTE_FORCE visits the cells,
+        // so that every mode picks the same brick whatever order it walks the cells in
+        if (distance < hit.distance
+                || (distance == hit.distance && hit.target == EntityType.BRICK && row * cols + col < cellIndex(hit))) {
+            hit.set(distance, EntityType.BRICK, brick, minX, minY, maxX, maxY);
+        }
+    }
+
+    // the box of a brick hit is its cell, so its corner gives the cell back
+    private int cellIndex(SweepHit hit) {
+        return (int) Math.round(hit.minY / cellH) * cols + (int) Math.round(hit.minX / cellW);
+    }
+}
@@ -0,0 +1,80 @@
+package org.overb.arkanoidfx.game.physics;
+
+import java.util.Arrays;
+
+// binary min-heap of (time, ball slot) pairs kept in primitive arrays, ties go to the lower slot
+final class CollisionQueue {
+
+    private double[] times = new double[64];
+    private int[] slots = new int[64];
+    private int size;
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    double peekTime() {
+        return times[0];
+    }
+
+    int peekSlot() {
+        return slots[0];
+    }
+
+    void push(double time, int slot) {
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size * 2);
+            slots = Arrays.copyOf(slots, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(time, slot, times[parent], slots[parent])) {
+                break;
+            }
+            times[i] = times[parent];
+            slots[i] = slots[parent];
+            i = parent;
+        }
+        times[i] = time;
+        slots[i] = slot;
+    }
+
+    void pop() {
+        if (size == 0) {
+            return;
+        }
+        size--;
+        if (size == 0) {
+            return;
+        }
+        double time = times[size];
+        int slot = slots[size];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && less(times[child + 1], slots[child + 1], times[child], slots[child])) {
+                child++;
+            }
+            if (!less(times[child], slots[child], time, slot)) {
+                break;
+            }
+            times[i] = times[child];
+            slots[i] = slots[child];
+            i = child;
+        }
+        times[i] = time;
+        slots[i] = slot;
+    }
+
+    private static boolean less(double t1, int s1, double t2, int s2) {
+        return t1 < t2 || (t1 == t2 && s1 < s2);
+    }
+}
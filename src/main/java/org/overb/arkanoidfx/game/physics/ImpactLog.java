@@ -0,0 +1,31 @@
+package org.overb.arkanoidfx.game.physics;
+
+import org.overb.arkanoidfx.enums.EntityType;
+
+import java.util.Arrays;
+
+// wall and paddle impacts of one speculatively stepped ball, in frame time order, applied later on the game thread
+final class ImpactLog {
+
+    EntityType[] targets = new EntityType[8];
+    double[] offsets = new double[8];
+    int size;
+    // the speculation stopped at a brick, the ball has to be stepped again against the live grid
+    boolean brickHit;
+
+    void add(EntityType target, double offset) {
+        if (size == targets.length) {
+            int capacity = size * 2;
+            targets = Arrays.copyOf(targets, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+        }
+        targets[size] = target;
+        offsets[size] = offset;
+        size++;
+    }
+
+    void clear() {
+        size = 0;
+        brickHit = false;
+    }
+}
@@ -0,0 +1,63 @@
+package org.overb.arkanoidfx.game.physics;
+
+import java.util.Arrays;
+
+// Event-driven ball stepping: every ball predicts its exact next impact and the frame advances
+// from impact to impact in time order across all balls, instead of slicing it into substeps.
+final class KineticBallScheduler {
+
+    private final BallSystem balls;
+    private boolean[] inFrame = new boolean[32];
+    private final CollisionQueue queue = new CollisionQueue();
+
+    KineticBallScheduler(BallSystem balls) {
+        this.balls = balls;
+    }
+
+    void step(double timePerFrame) {
+        // balls spawned by an impact join on the next frame
+        int count = balls.getCount();
+        if (inFrame.length < count) {
+            inFrame = Arrays.copyOf(inFrame, Math.max(count, inFrame.length * 2));
+        }
+        queue.clear();
+        for (int slot = 0; slot < count; slot++) {
+            inFrame[slot] = balls.beginKineticFrame(slot);
+            if (inFrame[slot]) {
+                schedule(slot, timePerFrame);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int slot = queue.peekSlot();
+            double time = queue.peekTime();
+            queue.pop();
+            if (!inFrame[slot] || !balls.isActive(slot)) {
+                inFrame[slot] = false;
+                continue;
+            }
+            if (balls.isPredictionStale(slot)) {
+                // a brick this ball was aiming past or at has been destroyed by an earlier impact
+                schedule(slot, timePerFrame);
+                continue;
+            }
+            if (!balls.resolveImpact(slot, time)) {
+                inFrame[slot] = false;
+                continue;
+            }
+            schedule(slot, timePerFrame);
+        }
+        for (int slot = 0; slot < count; slot++) {
+            if (inFrame[slot] && balls.isActive(slot)) {
+                balls.endKineticFrame(slot, timePerFrame);
+            }
+            inFrame[slot] = false;
+        }
+    }
+
+    private void schedule(int slot, double timePerFrame) {
+        double time = balls.predictImpact(slot, timePerFrame);
+        if (time <= timePerFrame) {
+            queue.push(time, slot);
+        }
+    }
+}
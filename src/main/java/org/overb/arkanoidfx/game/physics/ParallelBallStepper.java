@@ -0,0 +1,148 @@
+package org.overb.arkanoidfx.game.physics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Steps chunks of ball slots on dedicated worker threads. Workers only read the brick grid, walls and paddle,
+// and only write the state of their own slots; the BallSystem merges the results afterwards.
+// The threads are started on the first parallel frame and stopped when the BallSystem leaves PARALLEL.
+// Every frame the calling thread wakes the workers it needs, claims chunks alongside them and parks until
+// the last one counts down. Phaser and CyclicBarrier queue a node for every blocked waiter, this handshake
+// only parks and unparks, so a frame does not allocate.
+final class ParallelBallStepper {
+
+    private static final int BALLS_PER_TASK = 4;
+    private static final int TASKS_PER_WORKER = 4;
+
+    private final BallSystem balls;
+    private int workers = 1;
+    // workers - 1 threads, the calling thread is the first worker; null while stopped
+    private Worker[] threads;
+    private final AtomicInteger nextChunk = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile Thread waiter;
+    private volatile Throwable failure;
+    private double timePerFrame;
+    private int count;
+    private int chunkCount;
+
+    ParallelBallStepper(BallSystem balls) {
+        this.balls = balls;
+    }
+
+    int getWorkers() {
+        return workers;
+    }
+
+    // only records the count, the threads are started by the first parallel frame
+    void setWorkers(int requested) {
+        int resolved = requested > 0 ? requested : Runtime.getRuntime().availableProcessors();
+        if (resolved != workers) {
+            stop();
+            workers = resolved;
+        }
+    }
+
+    // fewer balls than one task handles are cheaper to step on the calling thread
+    boolean isParallel(int count) {
+        return workers > 1 && count > BALLS_PER_TASK;
+    }
+
+    void stop() {
+        if (threads == null) {
+            return;
+        }
+        for (Worker worker : threads) {
+            worker.stopped = true;
+            LockSupport.unpark(worker);
+        }
+        threads = null;
+    }
+
+    void step(int count, double timePerFrame) {
+        if (threads == null) {
+            start();
+        }
+        this.timePerFrame = timePerFrame;
+        this.count = count;
+        chunkCount = Math.min(workers * TASKS_PER_WORKER, (count + BALLS_PER_TASK - 1) / BALLS_PER_TASK);
+        int helpers = Math.min(threads.length, chunkCount - 1);
+        nextChunk.set(0);
+        failure = null;
+        waiter = Thread.currentThread();
+        pending.set(helpers);
+        for (int i = 0; i < helpers; i++) {
+            threads[i].wake();
+        }
+        try {
+            stepChunks();
+        } finally {
+            while (pending.get() > 0) {
+                LockSupport.park(this);
+            }
+            waiter = null;
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Parallel ball step failed", failure);
+        }
+    }
+
+    private void start() {
+        threads = new Worker[workers - 1];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Worker(i + 1);
+            threads[i].start();
+        }
+    }
+
+    private void stepChunks() {
+        int chunk;
+        while ((chunk = nextChunk.getAndIncrement()) < chunkCount) {
+            int from = (int) ((long) count * chunk / chunkCount);
+            int to = (int) ((long) count * (chunk + 1) / chunkCount);
+            for (int slot = from; slot < to; slot++) {
+                balls.stepSlot(slot, timePerFrame);
+            }
+        }
+    }
+
+    private final class Worker extends Thread {
+        private volatile int frame;
+        private volatile boolean stopped;
+
+        private Worker(int index) {
+            super("ball-worker-" + index);
+            setDaemon(true);
+        }
+
+        // the frame counter publishes the frame's chunk setup to the worker
+        private void wake() {
+            frame++;
+            LockSupport.unpark(this);
+        }
+
+        @Override
+        public void run() {
+            int seen = 0;
+            while (true) {
+                int next;
+                while ((next = frame) == seen) {
+                    if (stopped) {
+                        return;
+                    }
+                    LockSupport.park(this);
+                }
+                seen = next;
+                try {
+                    stepChunks();
+                } catch (Throwable t) {
+                    failure = t;
+                } finally {
+                    if (pending.decrementAndGet() == 0) {
+                        LockSupport.unpark(waiter);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.overb.arkanoidfx.game.physics;
+
+final class ScalarBatchSweep implements BatchSweep {
+
+    static final ScalarBatchSweep INSTANCE = new ScalarBatchSweep();
+
+    @Override
+    public int earliest(double cx, double cy, double dirX, double dirY, double r, double maxDistance,
+                        double[] minX, double[] minY, double[] maxX, double[] maxY, int from, int to) {
+        int bestIndex = -1;
+        double best = SweepMath.MISS;
+        for (int i = from; i < to; i++) {
+            double distance = SweepMath.sweepCircleAgainstAABB(cx, cy, dirX, dirY, r, minX[i], minY[i], maxX[i], maxY[i]);
+            if (distance <= maxDistance && distance < best) {
+                best = distance;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return false;
+    }
+}
@@ -0,0 +1,35 @@
+package org.overb.arkanoidfx.game.physics;
+
+import org.overb.arkanoidfx.enums.EntityType;
+
+// reusable time-of-impact record, owned by a single ball and overwritten on every query
+public final class SweepHit {
+    public double distance = SweepMath.MISS;
+    public EntityType target;
+    public BrickBody brick;
+    public double minX;
+    public double minY;
+    public double maxX;
+    public double maxY;
+
+    public void reset() {
+        distance = SweepMath.MISS;
+        target = null;
+        brick = null;
+    }
+
+    public boolean isHit() {
+        return target != null;
+    }
+
+    public void set(double distance, EntityType target, BrickBody brick,
+                    double minX, double minY, double maxX, double maxY) {
+        this.distance = distance;
+        this.target = target;
+        this.brick = brick;
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+}
@@ -0,0 +1,61 @@
+package org.overb.arkanoidfx.game.physics;
+
+import org.overb.arkanoidfx.enums.Axis;
+
+public final class SweepMath {
+
+    public static final double MISS = Double.POSITIVE_INFINITY;
+    private static final double EPS = 1e-8;
+
+    private SweepMath() {
+    }
+
+    // Swept circle vs AABB using Minkowski sum (expand rect by radius and cast point).
+    // Direction must be a unit vector, the result is the travel distance to the impact or MISS.
+    public static double sweepCircleAgainstAABB(double cx, double cy, double dirX, double dirY, double r,
+                                                double minX, double minY, double maxX, double maxY) {
+        double eMinX = minX - r;
+        double eMinY = minY - r;
+        double eMaxX = maxX + r;
+        double eMaxY = maxY + r;
+        double tminX, tmaxX, tminY, tmaxY;
+        if (Math.abs(dirX) < EPS) {
+            if (cx < eMinX || cx > eMaxX) return MISS;
+            tminX = Double.NEGATIVE_INFINITY;
+            tmaxX = Double.POSITIVE_INFINITY;
+        } else {
+            double tx1 = (eMinX - cx) / dirX;
+            double tx2 = (eMaxX - cx) / dirX;
+            tminX = Math.min(tx1, tx2);
+            tmaxX = Math.max(tx1, tx2);
+        }
+        if (Math.abs(dirY) < EPS) {
+            if (cy < eMinY || cy > eMaxY) return MISS;
+            tminY = Double.NEGATIVE_INFINITY;
+            tmaxY = Double.POSITIVE_INFINITY;
+        } else {
+            double ty1 = (eMinY - cy) / dirY;
+            double ty2 = (eMaxY - cy) / dirY;
+            tminY = Math.min(ty1, ty2);
+            tmaxY = Math.max(ty1, ty2);
+        }
+        double tEnter = Math.max(tminX, tminY);
+        double tExit = Math.min(tmaxX, tmaxY);
+        if (tExit < 0) return MISS; // box is behind
+        if (tEnter > tExit) return MISS; // miss
+        if (tEnter < 0) tEnter = 0; // already inside expanded box, treat as immediate hit
+        return tEnter;
+    }
+
+    public static Axis chooseBounceAxisCircleRect(double cx, double cy, double minX, double minY, double maxX, double maxY) {
+        double closestX = Math.max(minX, Math.min(cx, maxX));
+        double closestY = Math.max(minY, Math.min(cy, maxY));
+        double dx = cx - closestX;
+        double dy = cy - closestY;
+        if (Math.abs(dx) > Math.abs(dy)) {
+            return Axis.HORIZONTAL;
+        } else {
+            return Axis.VERTICAL;
+        }
+    }
+}
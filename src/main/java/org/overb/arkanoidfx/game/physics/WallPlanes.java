@@ -0,0 +1,91 @@
+package org.overb.arkanoidfx.game.physics;
+
+import org.overb.arkanoidfx.enums.EntityType;
+
+// Static arena walls cached as axis slabs. The walls span the whole arena along their length,
+// so a swept ball only has to be tested against the slab across their thickness.
+public final class WallPlanes {
+
+    private static final EntityType[] ORDER = {
+            EntityType.WALL_LEFT, EntityType.WALL_RIGHT, EntityType.WALL_TOP, EntityType.WALL_BOTTOM_SENSOR, EntityType.WALL_SAFETY
+    };
+    private static final WallPlanes INSTANCE = new WallPlanes();
+
+    private final boolean[] enabled = new boolean[ORDER.length];
+    private final double[] minX = new double[ORDER.length];
+    private final double[] minY = new double[ORDER.length];
+    private final double[] maxX = new double[ORDER.length];
+    private final double[] maxY = new double[ORDER.length];
+
+    public static WallPlanes getInstance() {
+        return INSTANCE;
+    }
+
+    public void register(EntityType type, double x, double y, double width, double height) {
+        int slot = slotOf(type);
+        if (slot < 0) {
+            return;
+        }
+        minX[slot] = x;
+        minY[slot] = y;
+        maxX[slot] = x + width;
+        maxY[slot] = y + height;
+        enabled[slot] = true;
+    }
+
+    public void unregister(EntityType type) {
+        int slot = slotOf(type);
+        if (slot >= 0) {
+            enabled[slot] = false;
+        }
+    }
+
+    public boolean isEnabled(EntityType type) {
+        int slot = slotOf(type);
+        return slot >= 0 && enabled[slot];
+    }
+
+    public void sweep(double cx, double cy, double dirX, double dirY, double r, double maxDistance, double vy, SweepHit hit) {
+        for (int slot = 0; slot < ORDER.length; slot++) {
+            if (!enabled[slot]) {
+                continue;
+            }
+            EntityType type = ORDER[slot];
+            if (type == EntityType.WALL_SAFETY && vy < 0) {
+                continue;
+            }
+            double distance;
+            if (type == EntityType.WALL_LEFT || type == EntityType.WALL_RIGHT) {
+                distance = slab(cx, dirX, minX[slot] - r, maxX[slot] + r);
+            } else {
+                distance = slab(cy, dirY, minY[slot] - r, maxY[slot] + r);
+            }
+            if (distance <= maxDistance && distance < hit.distance) {
+                hit.set(distance, type, null, minX[slot], minY[slot], maxX[slot], maxY[slot]);
+            }
+        }
+    }
+
+    private static double slab(double c, double dir, double min, double max) {
+        if (Math.abs(dir) < 1e-8) {
+            return (c >= min && c <= max) ? 0.0 : SweepMath.MISS;
+        }
+        double t1 = (min - c) / dir;
+        double t2 = (max - c) / dir;
+        double tEnter = Math.min(t1, t2);
+        double tExit = Math.max(t1, t2);
+        if (tExit < 0) {
+            return SweepMath.MISS;
+        }
+        return Math.max(0.0, tEnter);
+    }
+
+    private static int slotOf(EntityType type) {
+        for (int i = 0; i < ORDER.length; i++) {
+            if (ORDER[i] == type) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
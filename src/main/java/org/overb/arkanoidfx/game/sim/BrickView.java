@@ -0,0 +1,17 @@
+package org.overb.arkanoidfx.game.sim;
+
+import org.overb.arkanoidfx.entities.SurpriseEntity;
+
+// presentation side of a SimBrick: the FXGL BrickComponent in the game, a counter in the headless simulation
+public interface BrickView {
+
+    void playSound(String name);
+
+    void showFrame(int frame);
+
+    void spawnSurprise(SurpriseEntity surprise);
+
+    void onDestroyed();
+
+    void onLevelCleared();
+}
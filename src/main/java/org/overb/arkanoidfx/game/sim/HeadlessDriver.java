@@ -0,0 +1,46 @@
+package org.overb.arkanoidfx.game.sim;
+
+import org.overb.arkanoidfx.entities.EntityRepository;
+import org.overb.arkanoidfx.entities.LevelEntity;
+import org.overb.arkanoidfx.enums.BallStepMode;
+import org.overb.arkanoidfx.game.loaders.DefinitionsLoader;
+import org.overb.arkanoidfx.game.loaders.LevelLoader;
+import org.overb.arkanoidfx.game.physics.BallSystem;
+
+// Plays a level without a display, as fast as the physics allows.
+// Arguments: [level file] [max ticks] [seed] [SUBSTEPS|EVENT_DRIVEN|PARALLEL] [extra balls]
+// PARALLEL runs with one worker per core.
+public final class HeadlessDriver {
+
+    private static final double TICK = 1.0 / 120.0;
+
+    public static void main(String[] args) throws Exception {
+        LevelLoader levels = new LevelLoader();
+        String levelName = args.length > 0 ? args[0] : levels.loadLevelOrder().getFirst();
+        long maxTicks = args.length > 1 ? Long.parseLong(args[1]) : 1_000_000L;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+        if (args.length > 3) {
+            BallSystem.getInstance().setStepMode(BallStepMode.valueOf(args[3]));
+            BallSystem.getInstance().setWorkers(0);
+        }
+        int extraBalls = args.length > 4 ? Integer.parseInt(args[4]) : 0;
+        EntityRepository repository = DefinitionsLoader.fromClasspath().loadAll();
+        LevelEntity level = levels.loadLevel(levelName);
+
+        Simulation simulation = new Simulation(repository, seed);
+        simulation.loadLevel(level);
+        simulation.launchExtraBalls(extraBalls);
+        long start = System.nanoTime();
+        while (!simulation.isFinished() && simulation.getTicks() < maxTicks) {
+            simulation.step(TICK);
+        }
+        double seconds = Math.max(1e-9, (System.nanoTime() - start) / 1e9);
+        var session = simulation.getSession();
+        System.out.printf("%s: %d ticks (%.1f game seconds) in %.3f s, %.0f ticks/s%n",
+                levelName, simulation.getTicks(), simulation.getTicks() * TICK, seconds, simulation.getTicks() / seconds);
+        System.out.printf("score %d, lives %d, bricks destroyed %d, bricks left %d, surprises %d, paddle hits %d, %s%n",
+                session.getScoreRounded(), session.getLives(), simulation.getBricksDestroyed(), session.getDestructibleBricksLeft(),
+                simulation.getSurprisesSpawned(), simulation.getPaddleHits(), simulation.isLevelCleared() ? "cleared" : "not cleared");
+        simulation.dispose();
+    }
+}
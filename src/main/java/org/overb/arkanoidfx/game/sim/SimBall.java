@@ -0,0 +1,65 @@
+package org.overb.arkanoidfx.game.sim;
+
+import lombok.Getter;
+import org.overb.arkanoidfx.game.physics.BallHost;
+import org.overb.arkanoidfx.game.physics.BallSystem;
+import org.overb.arkanoidfx.game.physics.Body;
+
+// Ball handle for the headless simulation, the counterpart of BallComponent without an entity behind it.
+public final class SimBall implements BallHost {
+
+    private final Simulation simulation;
+    private final Body paddle;
+    @Getter
+    private int slot = -1;
+    @Getter
+    private double x;
+    @Getter
+    private double y;
+    @Getter
+    private boolean lost;
+
+    public SimBall(Simulation simulation, Body paddle, double x, double y, double width, double height) {
+        this.simulation = simulation;
+        this.paddle = paddle;
+        this.x = x;
+        this.y = y;
+        this.slot = BallSystem.getInstance().register(this, x, y, width, height);
+    }
+
+    public void dispose() {
+        BallSystem.getInstance().unregister(this);
+    }
+
+    @Override
+    public void assignSlot(int slot) {
+        this.slot = slot;
+    }
+
+    @Override
+    public Body getPaddle() {
+        return paddle;
+    }
+
+    @Override
+    public void onMoved(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    @Override
+    public void onWallHit() {
+    }
+
+    @Override
+    public void onPaddleHit(double offset) {
+        if (simulation != null) {
+            simulation.onPaddleHit();
+        }
+    }
+
+    @Override
+    public void onLost(boolean lastBall) {
+        lost = true;
+    }
+}
@@ -0,0 +1,131 @@
+package org.overb.arkanoidfx.game.sim;
+
+import lombok.Getter;
+import org.overb.arkanoidfx.entities.BrickEntity;
+import org.overb.arkanoidfx.entities.EntityRepository;
+import org.overb.arkanoidfx.entities.SurpriseEntity;
+import org.overb.arkanoidfx.enums.EventType;
+import org.overb.arkanoidfx.game.GameSession;
+import org.overb.arkanoidfx.game.core.EventBus;
+import org.overb.arkanoidfx.game.core.GameEvent;
+import org.overb.arkanoidfx.game.jfr.BrickDestroyedEvent;
+import org.overb.arkanoidfx.game.jfr.SurpriseEvent;
+import org.overb.arkanoidfx.game.physics.BallSystem;
+import org.overb.arkanoidfx.game.physics.BrickBody;
+import org.overb.arkanoidfx.game.physics.BrickGrid;
+
+import java.util.random.RandomGenerator;
+
+// Brick rules without any FXGL dependency: hit points, scoring, ball speed effects and surprise rolls.
+public final class SimBrick implements BrickBody {
+
+    // the events are only created while a recording has them enabled, so that a brick hit stays allocation-free
+    private static final jdk.jfr.EventType DESTROYED_EVENT = jdk.jfr.EventType.getEventType(BrickDestroyedEvent.class);
+    private static final jdk.jfr.EventType SURPRISE_EVENT = jdk.jfr.EventType.getEventType(SurpriseEvent.class);
+
+    private final BrickEntity definition;
+    private final GameSession session;
+    private final EntityRepository repository;
+    private final RandomGenerator random;
+    private final BrickView view;
+    @Getter
+    private final int col;
+    @Getter
+    private final int row;
+    @Getter
+    private int hp;
+    private int currentFrame = 0;
+    @Getter
+    private boolean destroyed = false;
+
+    public SimBrick(BrickEntity definition, GameSession session, EntityRepository repository, RandomGenerator random,
+                    int col, int row, BrickView view) {
+        this.definition = definition;
+        this.session = session;
+        this.repository = repository;
+        this.random = random;
+        this.col = col;
+        this.row = row;
+        this.view = view;
+        this.hp = definition.hp;
+    }
+
+    @Override
+    public void onBallHit(int ballSlot) {
+        if (destroyed) {
+            return;
+        }
+        view.playSound(definition.hitSound);
+        BallSystem balls = BallSystem.getInstance();
+        if (ballSlot >= 0) {
+            if (definition.speedEffect > 0) {
+                balls.boostSpeedByFactor(ballSlot, 1.0 + definition.speedEffect);
+            }
+            if (random.nextDouble() < 0.20 && balls.getSpeed(ballSlot) > 1e-6) {
+                double sign = random.nextBoolean() ? 1.0 : -1.0;
+                balls.rotateVelocity(ballSlot, Math.toRadians(0.5) * sign);
+            }
+        }
+        if (definition.damageAdvancesFrame && definition.visual.frames > 1) {
+            currentFrame = (currentFrame + 1) % Math.max(1, definition.visual.frames);
+            view.showFrame(currentFrame);
+        }
+        if (hp == -1) {
+            return;
+        }
+        hp = Math.max(0, hp - 1);
+        if (hp != 0) {
+            return;
+        }
+        BrickDestroyedEvent event = DESTROYED_EVENT.isEnabled() ? new BrickDestroyedEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        destroyed = true;
+        BrickGrid.getInstance().remove(col, row, this);
+        session.onBrickDestroyed(definition.points, balls.findMaxSpeed(), BallSystem.BASE_SPEED);
+        EventBus.publish(GameEvent.of(EventType.HUD_UPDATE));
+        view.playSound(definition.destroySound);
+        SurpriseEntity surprise = rollSurprise();
+        if (surprise != null) {
+            if (SURPRISE_EVENT.isEnabled()) {
+                SurpriseEvent spawn = new SurpriseEvent();
+                spawn.action = "spawn";
+                spawn.surprise = surprise.name;
+                spawn.effect = surprise.effect;
+                spawn.commit();
+            }
+            view.spawnSurprise(surprise);
+            view.playSound("surprise.wav");
+        }
+        if (event != null) {
+            event.brick = definition.name;
+            event.col = col;
+            event.row = row;
+            event.points = definition.points;
+            event.bricksLeft = session.getDestructibleBricksLeft();
+            event.commit();
+        }
+        view.onDestroyed();
+        if (session.getDestructibleBricksLeft() == 0) {
+            view.onLevelCleared();
+        }
+    }
+
+    private SurpriseEntity rollSurprise() {
+        if (repository == null || !session.areSurprisesEnabled()) {
+            return null;
+        }
+        SurpriseEntity chosen = null;
+        double bestRoll = 0;
+        for (var s : repository.getSurprises().values()) {
+            double chance = s.spawnChance > 0 ? s.spawnChance : 0.10;
+            double roll = random.nextDouble();
+            if (roll < chance && (chosen == null || roll < bestRoll)) {
+                chosen = s;
+                bestRoll = roll;
+            }
+        }
+        return chosen;
+    }
+}
@@ -0,0 +1,33 @@
+package org.overb.arkanoidfx.game.sim;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.overb.arkanoidfx.game.physics.Body;
+
+// Plain paddle box for the headless simulation, moved by a bot instead of the mouse.
+@Getter
+public final class SimPaddle implements Body {
+
+    private double x;
+    private final double y;
+    private final double width;
+    private final double height;
+    private final double arenaWidth;
+    @Setter
+    private boolean active = true;
+
+    public SimPaddle(double x, double y, double width, double height, double arenaWidth) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.arenaWidth = arenaWidth;
+    }
+
+    public void moveTowards(double targetCenterX, double maxSpeed, double dt) {
+        double delta = targetCenterX - (x + width / 2.0);
+        double maxStep = maxSpeed * dt;
+        delta = Math.max(-maxStep, Math.min(maxStep, delta));
+        x = Math.max(0.0, Math.min(arenaWidth - width, x + delta));
+    }
+}
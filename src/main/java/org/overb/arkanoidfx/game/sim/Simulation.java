@@ -0,0 +1,204 @@
+package org.overb.arkanoidfx.game.sim;
+
+import lombok.Getter;
+import org.overb.arkanoidfx.entities.BrickEntity;
+import org.overb.arkanoidfx.entities.EntityRepository;
+import org.overb.arkanoidfx.entities.LevelEntity;
+import org.overb.arkanoidfx.entities.SurpriseEntity;
+import org.overb.arkanoidfx.enums.EntityType;
+import org.overb.arkanoidfx.enums.Resolution;
+import org.overb.arkanoidfx.game.GameSession;
+import org.overb.arkanoidfx.game.physics.BallSystem;
+import org.overb.arkanoidfx.game.physics.BrickGrid;
+import org.overb.arkanoidfx.game.physics.WallPlanes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+// One level played without FXGL: the same BallSystem, BrickGrid and WallPlanes as the game,
+// with a bot paddle instead of the mouse. The physics systems are singletons, so a JVM runs
+// either the game or one Simulation at a time.
+public final class Simulation {
+
+    private static final Resolution ARENA = Resolution.R1920x1080;
+    private static final double PADDLE_SPEED = 2500.0;
+
+    private final EntityRepository repository;
+    private final RandomGenerator random;
+    @Getter
+    private final GameSession session = new GameSession();
+    private final List<SimBall> balls = new ArrayList<>();
+    private final Counters counters = new Counters();
+    @Getter
+    private SimPaddle paddle;
+    private double aimOffset;
+    @Getter
+    private long ticks;
+    @Getter
+    private int bricksDestroyed;
+    @Getter
+    private int surprisesSpawned;
+    @Getter
+    private int paddleHits;
+    @Getter
+    private boolean levelCleared;
+
+    public Simulation(EntityRepository repository, long seed) {
+        this.repository = repository;
+        this.random = new SplittableRandom(seed);
+    }
+
+    public void loadLevel(LevelEntity level) {
+        dispose();
+        session.resetLevel();
+        levelCleared = false;
+        spawnWalls();
+        buildBricks(level);
+        double paddleWidth = EntityType.PADDLE.getDesignWidth();
+        double paddleHeight = EntityType.PADDLE.getDesignHeight();
+        paddle = new SimPaddle((ARENA.getWidth() - paddleWidth) / 2.0, ARENA.getHeight() - 80, paddleWidth, paddleHeight, ARENA.getWidth());
+        spawnBall();
+    }
+
+    public void step(double dt) {
+        ticks++;
+        BallSystem ballSystem = BallSystem.getInstance();
+        trackBall(ballSystem, dt);
+        for (SimBall ball : balls) {
+            if (!ballSystem.isLaunched(ball.getSlot())) {
+                ballSystem.launch(ball.getSlot());
+            }
+        }
+        ballSystem.step(dt);
+        balls.removeIf(SimBall::isLost);
+        if (balls.isEmpty() && !levelCleared) {
+            session.loseLife();
+            if (session.getLives() > 0) {
+                spawnBall();
+            }
+        }
+    }
+
+    // extra balls launched from the paddle at angles spread around the vertical, for multiball runs
+    public void launchExtraBalls(int extra) {
+        BallSystem ballSystem = BallSystem.getInstance();
+        for (int i = 0; i < extra; i++) {
+            double angle = Math.toRadians(-60.0 + 120.0 * (i + 0.5) / extra);
+            SimBall ball = spawnBall();
+            ballSystem.launchWithVelocity(ball.getSlot(), Math.sin(angle) * BallSystem.BASE_SPEED, -Math.cos(angle) * BallSystem.BASE_SPEED);
+        }
+    }
+
+    public boolean isFinished() {
+        return levelCleared || session.getLives() <= 0;
+    }
+
+    public int getBallCount() {
+        return balls.size();
+    }
+
+    public void dispose() {
+        for (SimBall ball : balls) {
+            ball.dispose();
+        }
+        balls.clear();
+        BrickGrid.getInstance().clear();
+    }
+
+    void onPaddleHit() {
+        paddleHits++;
+        // aim somewhere else on the paddle next time, so the ball does not settle into a loop
+        aimOffset = (random.nextDouble() * 2.0 - 1.0) * 0.4 * paddle.getWidth();
+    }
+
+    // follows the lowest falling ball, same as a player would
+    private void trackBall(BallSystem ballSystem, double dt) {
+        SimBall target = null;
+        for (SimBall ball : balls) {
+            if (ballSystem.getVelocityY(ball.getSlot()) < 0) {
+                continue;
+            }
+            if (target == null || ball.getY() > target.getY()) {
+                target = ball;
+            }
+        }
+        if (target == null && !balls.isEmpty()) {
+            target = balls.getFirst();
+        }
+        if (target != null) {
+            double centerX = target.getX() + EntityType.BALL.getDesignWidth() / 2.0;
+            paddle.moveTowards(centerX + aimOffset, PADDLE_SPEED, dt);
+        }
+    }
+
+    private SimBall spawnBall() {
+        double ballWidth = EntityType.BALL.getDesignWidth();
+        double ballHeight = EntityType.BALL.getDesignHeight();
+        double x = paddle.getX() + paddle.getWidth() / 2.0 - ballWidth / 2.0;
+        double y = paddle.getY() - ballHeight - 4.0;
+        SimBall ball = new SimBall(this, paddle, x, y, ballWidth, ballHeight);
+        balls.add(ball);
+        return ball;
+    }
+
+    private void spawnWalls() {
+        double width = ARENA.getWidth();
+        double height = ARENA.getHeight();
+        WallPlanes walls = WallPlanes.getInstance();
+        walls.register(EntityType.WALL_LEFT, 0, 0, 2, height);
+        walls.register(EntityType.WALL_RIGHT, width - 2, 0, 2, height);
+        walls.register(EntityType.WALL_TOP, 0, -2, width, 2);
+        walls.register(EntityType.WALL_BOTTOM_SENSOR, 0, height - 2, width, 50);
+        walls.unregister(EntityType.WALL_SAFETY);
+    }
+
+    private void buildBricks(LevelEntity level) {
+        int cols = level.cols;
+        int rows = level.rows;
+        for (LevelEntity.Cell cell : level.cells) {
+            cols = Math.max(cols, cell.col + 1);
+            rows = Math.max(rows, cell.row + 1);
+        }
+        BrickGrid grid = BrickGrid.getInstance();
+        grid.reset(cols, rows, EntityType.BRICK.getDesignWidth(), EntityType.BRICK.getDesignHeight());
+        for (LevelEntity.Cell cell : level.cells) {
+            BrickEntity def = repository.getBrick(cell.brickId);
+            if (def == null || !grid.contains(cell.col, cell.row) || grid.get(cell.col, cell.row) != null) {
+                continue;
+            }
+            grid.put(cell.col, cell.row, new SimBrick(def, session, repository, random, cell.col, cell.row, counters));
+            if (def.hp != -1) {
+                session.registerDestructibleBrick();
+            }
+        }
+    }
+
+    // shared by all bricks, the headless run only counts what the FXGL view would show
+    private final class Counters implements BrickView {
+
+        @Override
+        public void playSound(String name) {
+        }
+
+        @Override
+        public void showFrame(int frame) {
+        }
+
+        @Override
+        public void spawnSurprise(SurpriseEntity surprise) {
+            surprisesSpawned++;
+        }
+
+        @Override
+        public void onDestroyed() {
+            bricksDestroyed++;
+        }
+
+        @Override
+        public void onLevelCleared() {
+            levelCleared = true;
+        }
+    }
+}
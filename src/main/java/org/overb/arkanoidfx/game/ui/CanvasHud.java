@@ -0,0 +1,208 @@
+package org.overb.arkanoidfx.game.ui;
+
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import lombok.Getter;
+import org.overb.arkanoidfx.game.ResolutionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// HUD line drawn onto one Canvas from a glyph atlas. The glyphs are rasterised once, the shadows
+// separately from the colored bodies, so that all shadows can go under all text like with the Text nodes.
+public final class CanvasHud {
+
+    // fields from right to left, the same order as the Text layout
+    public static final int LIVES = 0;
+    public static final int SCORE = 1;
+    public static final int MULTIPLIER = 2;
+    public static final int COMBO = 3;
+    public static final int LEVEL = 4;
+    public static final int FPS = 5;
+
+    private static final Color[] FIELD_COLORS = {Color.WHITE, Color.WHITE, Color.LIGHTGREEN, Color.LIGHTGRAY, Color.WHITE, Color.YELLOW};
+    private static final String[] FIELD_CHARS = {"Lives: ", "Score: ", "Multiplier: .x", "Combo: ", "Level: ", "FPS: "};
+    private static final String COMMON_CHARS = "0123456789-";
+    private static final double GAP = 16.0;
+    private static final double HEIGHT = 64.0;
+    private static final double BASELINE = 40.0;
+    private static final int ATLAS_WIDTH = 512;
+
+    @Getter
+    private final Canvas canvas;
+    private final Font font;
+    private WritableImage atlas;
+    private final Glyph[] shadows = new Glyph[128];
+    private final Glyph[][] bodies = new Glyph[FIELD_COLORS.length][];
+    private final char[][] fields = new char[FIELD_COLORS.length][32];
+    private final int[] lengths = new int[FIELD_COLORS.length];
+    private final double[] penX = new double[FIELD_COLORS.length];
+
+    public CanvasHud(Font font) {
+        this.font = font;
+        double width = ResolutionManager.DESIGN_RESOLUTION.getWidth();
+        canvas = new Canvas(width, HEIGHT);
+        canvas.setMouseTransparent(true);
+        // baseline at the same place as the Text nodes
+        canvas.setLayoutY(ResolutionManager.DESIGN_RESOLUTION.getHeight() - 20 - BASELINE);
+    }
+
+    public void setField(int field, CharSequence text) {
+        int length = Math.min(text.length(), fields[field].length);
+        for (int i = 0; i < length; i++) {
+            fields[field][i] = text.charAt(i);
+        }
+        lengths[field] = length;
+    }
+
+    public void redraw() {
+        if (atlas == null) {
+            buildAtlas();
+        }
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        double x = canvas.getWidth() - 16.0;
+        for (int field = 0; field < lengths.length; field++) {
+            x -= advance(field);
+            penX[field] = x;
+            x -= GAP;
+        }
+        for (int field = 0; field < lengths.length; field++) {
+            draw(g, field, shadows);
+        }
+        for (int field = 0; field < lengths.length; field++) {
+            draw(g, field, bodies[field]);
+        }
+    }
+
+    private double advance(int field) {
+        double width = 0;
+        for (int i = 0; i < lengths[field]; i++) {
+            Glyph glyph = glyph(bodies[field], fields[field][i]);
+            if (glyph != null) {
+                width += glyph.advance;
+            }
+        }
+        return width;
+    }
+
+    private void draw(GraphicsContext g, int field, Glyph[] glyphs) {
+        double x = penX[field];
+        for (int i = 0; i < lengths[field]; i++) {
+            Glyph glyph = glyph(glyphs, fields[field][i]);
+            if (glyph == null) {
+                continue;
+            }
+            if (glyph.width > 0) {
+                g.drawImage(atlas, glyph.atlasX, glyph.atlasY, glyph.width, glyph.height,
+                        x + glyph.offsetX, BASELINE + glyph.offsetY, glyph.width, glyph.height);
+            }
+            x += glyph.advance;
+        }
+    }
+
+    private static Glyph glyph(Glyph[] glyphs, char c) {
+        return c < glyphs.length ? glyphs[c] : null;
+    }
+
+    private void buildAtlas() {
+        List<Glyph> all = new ArrayList<>();
+        DropShadow shadow = new DropShadow();
+        shadow.setRadius(7);
+        shadow.setSpread(0.3);
+        shadow.setOffsetY(1.0);
+        shadow.setColor(Color.color(0, 0, 0, 1));
+        for (int field = 0; field < FIELD_COLORS.length; field++) {
+            bodies[field] = new Glyph[128];
+            String chars = FIELD_CHARS[field] + COMMON_CHARS;
+            for (int i = 0; i < chars.length(); i++) {
+                char c = chars.charAt(i);
+                if (shadows[c] == null) {
+                    shadows[c] = rasterise(c, Color.BLACK, shadow);
+                    all.add(shadows[c]);
+                }
+                Glyph body = findBody(c, FIELD_COLORS[field]);
+                if (body == null) {
+                    body = rasterise(c, FIELD_COLORS[field], null);
+                    all.add(body);
+                }
+                bodies[field][c] = body;
+            }
+        }
+        // shelf packing, one row after the other
+        int x = 0;
+        int y = 0;
+        int rowHeight = 0;
+        for (Glyph glyph : all) {
+            if (x + glyph.width > ATLAS_WIDTH) {
+                x = 0;
+                y += rowHeight + 1;
+                rowHeight = 0;
+            }
+            glyph.atlasX = x;
+            glyph.atlasY = y;
+            x += glyph.width + 1;
+            rowHeight = Math.max(rowHeight, glyph.height);
+        }
+        atlas = new WritableImage(ATLAS_WIDTH, Math.max(1, y + rowHeight));
+        for (Glyph glyph : all) {
+            if (glyph.width > 0) {
+                int[] pixels = new int[glyph.width * glyph.height];
+                glyph.image.getPixelReader().getPixels(0, 0, glyph.width, glyph.height, PixelFormat.getIntArgbInstance(), pixels, 0, glyph.width);
+                atlas.getPixelWriter().setPixels(glyph.atlasX, glyph.atlasY, glyph.width, glyph.height, PixelFormat.getIntArgbInstance(), pixels, 0, glyph.width);
+            }
+            glyph.image = null;
+        }
+    }
+
+    private Glyph findBody(char c, Color color) {
+        for (int field = 0; field < FIELD_COLORS.length; field++) {
+            if (bodies[field] != null && FIELD_COLORS[field].equals(color) && bodies[field][c] != null) {
+                return bodies[field][c];
+            }
+        }
+        return null;
+    }
+
+    private Glyph rasterise(char c, Color color, DropShadow effect) {
+        Text text = new Text(String.valueOf(c));
+        text.setFont(font);
+        text.setFill(color);
+        text.setEffect(effect);
+        Glyph glyph = new Glyph();
+        glyph.advance = text.getLayoutBounds().getWidth();
+        if (c == ' ') {
+            return glyph;
+        }
+        Bounds bounds = text.getBoundsInParent();
+        glyph.offsetX = Math.floor(bounds.getMinX());
+        glyph.offsetY = Math.floor(bounds.getMinY());
+        glyph.width = (int) Math.ceil(bounds.getMaxX() - glyph.offsetX);
+        glyph.height = (int) Math.ceil(bounds.getMaxY() - glyph.offsetY);
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        params.setViewport(new Rectangle2D(glyph.offsetX, glyph.offsetY, glyph.width, glyph.height));
+        glyph.image = text.snapshot(params, new WritableImage(glyph.width, glyph.height));
+        return glyph;
+    }
+
+    private static final class Glyph {
+        double advance;
+        double offsetX;
+        double offsetY;
+        int width;
+        int height;
+        int atlasX;
+        int atlasY;
+        WritableImage image;
+    }
+}
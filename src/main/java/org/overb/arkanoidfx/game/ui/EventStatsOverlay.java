@@ -0,0 +1,77 @@
+package org.overb.arkanoidfx.game.ui;
+
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.time.TimerAction;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import lombok.Getter;
+import org.overb.arkanoidfx.enums.EventType;
+import org.overb.arkanoidfx.game.core.EventMetrics;
+
+// Debug table of the EventBus metrics in the top left corner, refreshed twice a second.
+public final class EventStatsOverlay {
+
+    private Text text;
+    private TimerAction refreshTimer;
+    @Getter
+    private boolean shown = false;
+
+    public void toggle() {
+        if (shown) {
+            hide();
+        } else {
+            show();
+        }
+    }
+
+    public void show() {
+        if (text == null) {
+            text = new Text();
+            text.setFill(Color.LIGHTGREEN);
+            text.setFont(Font.font("Monospaced", 14));
+            text.setEffect(new DropShadow(4, Color.BLACK));
+            text.setMouseTransparent(true);
+            text.setX(16);
+            text.setY(28);
+        }
+        EventMetrics.getInstance().reset();
+        EventMetrics.getInstance().setEnabled(true);
+        FXGL.getGameScene().removeUINode(text);
+        FXGL.getGameScene().addUINode(text);
+        refresh();
+        if (refreshTimer != null) {
+            refreshTimer.expire();
+        }
+        refreshTimer = FXGL.getGameTimer().runAtInterval(this::refresh, javafx.util.Duration.millis(500));
+        shown = true;
+    }
+
+    public void hide() {
+        EventMetrics.getInstance().setEnabled(false);
+        if (refreshTimer != null) {
+            refreshTimer.expire();
+            refreshTimer = null;
+        }
+        if (text != null) {
+            FXGL.getGameScene().removeUINode(text);
+        }
+        shown = false;
+    }
+
+    private void refresh() {
+        StringBuilder sb = new StringBuilder(String.format("%-15s %8s %8s %5s %9s %9s %9s%n",
+                "event", "publish", "calls", "exc", "mean us", "p99 us", "max us"));
+        for (EventType type : EventType.values()) {
+            EventMetrics.Snapshot s = EventMetrics.getInstance().snapshot(type);
+            sb.append(String.format("%-15s %8d %8d %5d %9.1f %9.1f %9.1f%n", type, s.published(), s.invocations(), s.exceptions(),
+                    s.meanNanos() / 1000.0, s.percentileNanos(0.99) / 1000.0, s.maxNanos() / 1000.0));
+        }
+        text.setText(sb.toString());
+        // menus clear the UI nodes, put the table back on top
+        if (!FXGL.getGameScene().getUINodes().contains(text)) {
+            FXGL.getGameScene().addUINode(text);
+        }
+    }
+}
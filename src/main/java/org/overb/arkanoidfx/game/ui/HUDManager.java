@@ -7,19 +7,42 @@ import javafx.scene.effect.DropShadow;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
+import lombok.Setter;
+import org.overb.arkanoidfx.enums.HudRenderMode;
 import org.overb.arkanoidfx.game.GameSession;
 import org.overb.arkanoidfx.game.ResolutionManager;
+import org.overb.arkanoidfx.game.core.FrameProfiler;
 
 public final class HUDManager {
 
+    private static final int SCORE = 1;
+    private static final int COMBO = 1 << 1;
+    private static final int MULTIPLIER = 1 << 2;
+    private static final int LEVEL = 1 << 3;
+    private static final int LIVES = 1 << 4;
+    private static final int FPS = 1 << 5;
+
     private Text hudScore;
     private Text hudCombo;
     private Text hudLives;
     private Text hudMultiplier;
     private Text hudLevel;
     private Text hudFps;
-    private long fpsFrames = 0;
     private TimerAction fpsTimer;
+    // values currently shown, texts are only rebuilt for the fields that changed since the last frame
+    private int dirty = 0;
+    private int score;
+    private int combo;
+    private long multiplierHundredths;
+    private int level;
+    private int lives;
+    private long fps;
+    private final StringBuilder textBuffer = new StringBuilder(32);
+    // picked up by the next initHUD
+    @Setter
+    private HudRenderMode renderMode = HudRenderMode.TEXT;
+    private CanvasHud canvasHud;
+    private boolean canvasActive = false;
 
     public void initHUD() {
         if (hudScore == null) {
@@ -58,36 +81,115 @@ public final class HUDManager {
             hudFps.setEffect(ds);
         }
 
+        canvasActive = renderMode == HudRenderMode.CANVAS;
+        if (canvasActive && canvasHud == null) {
+            canvasHud = new CanvasHud(hudScore.getFont());
+            canvasHud.setField(CanvasHud.FPS, hudFps.getText());
+        }
         this.show();
-        FXGL.getGameScene().addUINodes(hudScore, hudCombo, hudMultiplier, hudLives, hudLevel, hudFps);
+        if (canvasActive) {
+            FXGL.getGameScene().addUINode(canvasHud.getCanvas());
+        } else {
+            FXGL.getGameScene().addUINodes(hudScore, hudCombo, hudMultiplier, hudLives, hudLevel, hudFps);
+        }
         if (fpsTimer != null) {
             fpsTimer.expire();
             fpsTimer = null;
         }
-        fpsFrames = 0;
         fpsTimer = FXGL.getGameTimer().runAtInterval(() -> {
-            hudFps.setText("FPS: " + fpsFrames);
-            fpsFrames = 0;
-            layoutBottomRightHorizontal();
+            fps = FrameProfiler.getInstance().getFramesPerSecond();
+            dirty |= FPS;
         }, javafx.util.Duration.seconds(1));
 
+        dirty = SCORE | COMBO | MULTIPLIER | LEVEL | LIVES;
         refresh(new GameSession());
+        applyChanges(true);
     }
 
+    // only records the values, the texts are rebuilt once per frame in onFrame
     public void refresh(GameSession session) {
         if (hudScore == null) {
             return;
         }
-        hudScore.setText("Score: " + session.getScoreRounded());
-        hudCombo.setText("Combo: " + session.getCombo());
-        hudMultiplier.setText(String.format("Multiplier: %.2fx", session.getLastMultiplier()));
-        hudLevel.setText("Level: " + session.getCurrentLevel());
-        hudLives.setText("Lives: " + session.getLives());
-        layoutBottomRightHorizontal();
+        int newScore = session.getScoreRounded();
+        if (newScore != score) {
+            score = newScore;
+            dirty |= SCORE;
+        }
+        if (session.getCombo() != combo) {
+            combo = session.getCombo();
+            dirty |= COMBO;
+        }
+        long newMultiplier = Math.round(session.getLastMultiplier() * 100.0);
+        if (newMultiplier != multiplierHundredths) {
+            multiplierHundredths = newMultiplier;
+            dirty |= MULTIPLIER;
+        }
+        if (session.getCurrentLevel() != level) {
+            level = session.getCurrentLevel();
+            dirty |= LEVEL;
+        }
+        if (session.getLives() != lives) {
+            lives = session.getLives();
+            dirty |= LIVES;
+        }
     }
 
     public void onFrame() {
-        fpsFrames++;
+        if (dirty != 0 && hudScore != null) {
+            applyChanges(false);
+        }
+    }
+
+    private void applyChanges(boolean forceLayout) {
+        boolean widthChanged = forceLayout;
+        if ((dirty & SCORE) != 0) {
+            textBuffer.setLength(0);
+            widthChanged |= setText(hudScore, CanvasHud.SCORE, textBuffer.append("Score: ").append(score));
+        }
+        if ((dirty & COMBO) != 0) {
+            textBuffer.setLength(0);
+            widthChanged |= setText(hudCombo, CanvasHud.COMBO, textBuffer.append("Combo: ").append(combo));
+        }
+        if ((dirty & MULTIPLIER) != 0) {
+            textBuffer.setLength(0);
+            textBuffer.append("Multiplier: ").append(multiplierHundredths / 100).append('.');
+            long fraction = multiplierHundredths % 100;
+            if (fraction < 10) {
+                textBuffer.append('0');
+            }
+            widthChanged |= setText(hudMultiplier, CanvasHud.MULTIPLIER, textBuffer.append(fraction).append('x'));
+        }
+        if ((dirty & LEVEL) != 0) {
+            textBuffer.setLength(0);
+            widthChanged |= setText(hudLevel, CanvasHud.LEVEL, textBuffer.append("Level: ").append(level));
+        }
+        if ((dirty & LIVES) != 0) {
+            textBuffer.setLength(0);
+            widthChanged |= setText(hudLives, CanvasHud.LIVES, textBuffer.append("Lives: ").append(lives));
+        }
+        if ((dirty & FPS) != 0) {
+            textBuffer.setLength(0);
+            widthChanged |= setText(hudFps, CanvasHud.FPS, textBuffer.append("FPS: ").append(fps));
+        }
+        dirty = 0;
+        if (widthChanged && canvasActive) {
+            canvasHud.redraw();
+        } else if (widthChanged) {
+            layoutBottomRightHorizontal();
+        }
+    }
+
+    // true when the new text is wider or narrower, which moves everything to the left of it.
+    // The canvas is redrawn as a whole, so any change counts there.
+    private boolean setText(Text element, int canvasField, CharSequence value) {
+        if (canvasActive) {
+            canvasHud.setField(canvasField, value);
+            return true;
+        }
+        double before = element.getLayoutBounds().getWidth();
+        element.setText(value.toString());
+        return element.getLayoutBounds().getWidth() != before;
     }
 
     private void layoutBottomRightHorizontal() {
@@ -129,6 +231,9 @@ public final class HUDManager {
         hudMultiplier.setVisible(false);
         hudLives.setVisible(false);
         hudFps.setVisible(false);
+        if (canvasHud != null) {
+            canvasHud.getCanvas().setVisible(false);
+        }
     }
 
     public void show() {
@@ -138,5 +243,8 @@ public final class HUDManager {
         hudMultiplier.setVisible(true);
         hudLives.setVisible(true);
         hudFps.setVisible(true);
+        if (canvasHud != null) {
+            canvasHud.getCanvas().setVisible(true);
+        }
     }
 }
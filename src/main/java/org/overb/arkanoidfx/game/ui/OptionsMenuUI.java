@@ -199,6 +199,11 @@ public class OptionsMenuUI extends FullscreenMenuUI {
         d.audio.master = c.audio.master;
         d.audio.music = c.audio.music;
         d.audio.sfx = c.audio.sfx;
+        d.physics.brickSweep = c.physics.brickSweep;
+        d.physics.ballStepping = c.physics.ballStepping;
+        d.physics.ballWorkers = c.physics.ballWorkers;
+        d.hud.renderer = c.hud.renderer;
+        d.render.bricks = c.render.bricks;
         return d;
     }
 
@@ -0,0 +1,117 @@
+package org.overb.arkanoidfx.game.ui;
+
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.time.TimerAction;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import lombok.Getter;
+import org.overb.arkanoidfx.enums.ProfilerSection;
+import org.overb.arkanoidfx.game.ResolutionManager;
+import org.overb.arkanoidfx.game.core.FrameProfiler;
+
+// Frame time percentiles, section timings, GC and allocation rate in the top right corner.
+public final class ProfilerOverlay {
+
+    private static final double REFRESH_SECONDS = 0.5;
+
+    private Text text;
+    private TimerAction refreshTimer;
+    @Getter
+    private boolean shown = false;
+    private long lastRefresh;
+    private long lastGcCount;
+    private long lastGcMillis;
+    private long lastAllocated;
+
+    public void toggle() {
+        if (shown) {
+            hide();
+        } else {
+            show();
+        }
+    }
+
+    public void show() {
+        if (text == null) {
+            text = new Text();
+            text.setFill(Color.LIGHTSKYBLUE);
+            text.setFont(Font.font("Monospaced", 14));
+            text.setEffect(new DropShadow(4, Color.BLACK));
+            text.setMouseTransparent(true);
+            text.setX(ResolutionManager.DESIGN_RESOLUTION.getWidth() - 440);
+            text.setY(28);
+        }
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        profiler.reset();
+        profiler.setEnabled(true);
+        lastRefresh = System.nanoTime();
+        lastGcCount = FrameProfiler.gcCount();
+        lastGcMillis = FrameProfiler.gcTimeMillis();
+        lastAllocated = FrameProfiler.allocatedBytes();
+        text.setText("collecting...");
+        FXGL.getGameScene().removeUINode(text);
+        FXGL.getGameScene().addUINode(text);
+        if (refreshTimer != null) {
+            refreshTimer.expire();
+        }
+        refreshTimer = FXGL.getGameTimer().runAtInterval(this::refresh, javafx.util.Duration.seconds(REFRESH_SECONDS));
+        shown = true;
+    }
+
+    public void hide() {
+        FrameProfiler.getInstance().setEnabled(false);
+        if (refreshTimer != null) {
+            refreshTimer.expire();
+            refreshTimer = null;
+        }
+        if (text != null) {
+            FXGL.getGameScene().removeUINode(text);
+        }
+        shown = false;
+    }
+
+    private void refresh() {
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        long now = System.nanoTime();
+        double seconds = Math.max(1e-3, (now - lastRefresh) / 1e9);
+        long gcCount = FrameProfiler.gcCount();
+        long gcMillis = FrameProfiler.gcTimeMillis();
+        long allocated = FrameProfiler.allocatedBytes();
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("frame ms  p50 %5.2f  p95 %5.2f  p99 %5.2f  max %6.2f%n",
+                profiler.frameNanosPercentile(0.50) / 1e6, profiler.frameNanosPercentile(0.95) / 1e6,
+                profiler.frameNanosPercentile(0.99) / 1e6, profiler.frameNanosPercentile(1.0) / 1e6));
+        sb.append(String.format("fps %d, window %d frames%n", profiler.getFramesPerSecond(), FrameProfiler.WINDOW));
+        for (ProfilerSection section : ProfilerSection.values()) {
+            sb.append(String.format("%-15s mean %6.3f ms  max %6.3f ms%n", label(section),
+                    profiler.meanSectionNanos(section) / 1e6, profiler.maxSectionNanos(section) / 1e6));
+        }
+        sb.append(String.format("gc        %d pauses, %d ms in %.1f s%n", gcCount - lastGcCount, gcMillis - lastGcMillis, seconds));
+        if (allocated >= 0 && lastAllocated >= 0) {
+            sb.append(String.format("alloc     %.1f MB/s%n", (allocated - lastAllocated) / seconds / (1024.0 * 1024.0)));
+        } else {
+            sb.append("alloc     n/a\n");
+        }
+        text.setText(sb.toString());
+        if (!FXGL.getGameScene().getUINodes().contains(text)) {
+            FXGL.getGameScene().addUINode(text);
+        }
+        lastRefresh = now;
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+        lastAllocated = allocated;
+    }
+
+    private static String label(ProfilerSection section) {
+        return switch (section) {
+            case BALL_PHYSICS -> "ball physics";
+            case BRICK_HITS -> " brick hits";
+            case EVENT_DISPATCH -> "event dispatch";
+            case ANIMATION -> "animation";
+            case HUD_REFRESH -> "hud refresh";
+        };
+    }
+}
@@ -23,6 +23,7 @@ import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
 import lombok.extern.java.Log;
 import org.overb.arkanoidfx.game.ResolutionManager;
+import org.overb.arkanoidfx.game.jfr.OverlaySnapshotEvent;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -141,6 +142,8 @@ public class ShatteredOverlay extends StackPane {
     }
 
     public static ShatteredOverlay showBackground() {
+        OverlaySnapshotEvent event = new OverlaySnapshotEvent();
+        event.begin();
         WritableImage snap = takeSnapshot();
         double w = snap.getWidth();
         double h = snap.getHeight();
@@ -166,6 +169,12 @@ public class ShatteredOverlay extends StackPane {
         if (polys.isEmpty()) {
             polys = generateImpactBiasedFragments(w, h, impact);
         }
+        event.width = (int) w;
+        event.height = (int) h;
+        event.fragments = polys.size();
+        // the snapshot and its blurred copy
+        event.bytes = 2L * (long) w * (long) h * 4L;
+        event.commit();
         ShatteredOverlay overlay = new ShatteredOverlay(snap, polys);
         FXGL.getGameScene().addUINode(overlay);
         overlay.setMinSize(w, h);
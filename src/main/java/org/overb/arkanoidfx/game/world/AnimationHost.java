@@ -0,0 +1,13 @@
+package org.overb.arkanoidfx.game.world;
+
+// Owner of an AnimationSystem slot, usually the component of the animated entity.
+public interface AnimationHost {
+
+    int getAnimationSlot();
+
+    void assignAnimationSlot(int slot);
+
+    // a non looping animation ran past its last frame, the slot is already released
+    default void onAnimationFinished() {
+    }
+}
@@ -0,0 +1,153 @@
+package org.overb.arkanoidfx.game.world;
+
+import com.almasb.fxgl.texture.Texture;
+import javafx.geometry.Rectangle2D;
+import org.overb.arkanoidfx.entities.Sprite;
+import org.overb.arkanoidfx.util.ViewportCache;
+
+import java.util.Arrays;
+
+// Steps every sprite animation from the game loop: one slot per animation with its frame,
+// time into that frame and the sprite's viewport table, instead of one game timer per entity.
+public final class AnimationSystem {
+
+    private static final AnimationSystem INSTANCE = new AnimationSystem();
+
+    private AnimationHost[] hosts = new AnimationHost[0];
+    private Texture[] textures = new Texture[0];
+    private Rectangle2D[][] viewports = new Rectangle2D[0][];
+    private int[] frame = new int[0];
+    private int[] frames = new int[0];
+    private double[] elapsed = new double[0];
+    private double[] frameDuration = new double[0];
+    private boolean[] loop = new boolean[0];
+    private boolean[] alive = new boolean[0];
+    private int count;
+    private boolean ticking;
+
+    public static AnimationSystem getInstance() {
+        return INSTANCE;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    // shows the first frame right away, frames only advance when there is more than one and a duration
+    public int register(AnimationHost host, Texture texture, Sprite sprite, double frameDurationSec, boolean looping) {
+        unregister(host);
+        if (count == hosts.length) {
+            grow(Math.max(32, count * 2));
+        }
+        int slot = count++;
+        hosts[slot] = host;
+        textures[slot] = texture;
+        viewports[slot] = ViewportCache.getInstance().get(sprite);
+        frame[slot] = 0;
+        frames[slot] = viewports[slot].length;
+        elapsed[slot] = 0.0;
+        frameDuration[slot] = Math.max(0.0, frameDurationSec);
+        loop[slot] = looping;
+        alive[slot] = true;
+        texture.setViewport(viewports[slot][0]);
+        host.assignAnimationSlot(slot);
+        return slot;
+    }
+
+    public void unregister(AnimationHost host) {
+        int slot = host.getAnimationSlot();
+        if (slot < 0 || slot >= count || hosts[slot] != host) {
+            return;
+        }
+        release(slot);
+        if (!ticking) {
+            compact();
+        }
+    }
+
+    public void tick(double tpf) {
+        ticking = true;
+        try {
+            int n = count;
+            for (int slot = 0; slot < n; slot++) {
+                if (alive[slot] && frameDuration[slot] > 0.0) {
+                    advance(slot, tpf);
+                }
+            }
+        } finally {
+            ticking = false;
+        }
+        compact();
+    }
+
+    private void advance(int slot, double tpf) {
+        double duration = frameDuration[slot];
+        elapsed[slot] += tpf;
+        if (elapsed[slot] < duration) {
+            return;
+        }
+        int steps = (int) (elapsed[slot] / duration);
+        elapsed[slot] -= steps * duration;
+        int next = frame[slot] + steps;
+        if (next >= frames[slot]) {
+            if (!loop[slot]) {
+                AnimationHost host = hosts[slot];
+                release(slot);
+                host.onAnimationFinished();
+                return;
+            }
+            next %= frames[slot];
+        }
+        if (next != frame[slot]) {
+            frame[slot] = next;
+            textures[slot].setViewport(viewports[slot][next]);
+        }
+    }
+
+    private void release(int slot) {
+        alive[slot] = false;
+        hosts[slot].assignAnimationSlot(-1);
+    }
+
+    private void compact() {
+        int write = 0;
+        for (int read = 0; read < count; read++) {
+            if (!alive[read]) {
+                hosts[read] = null;
+                textures[read] = null;
+                viewports[read] = null;
+                continue;
+            }
+            if (write != read) {
+                hosts[write] = hosts[read];
+                textures[write] = textures[read];
+                viewports[write] = viewports[read];
+                frame[write] = frame[read];
+                frames[write] = frames[read];
+                elapsed[write] = elapsed[read];
+                frameDuration[write] = frameDuration[read];
+                loop[write] = loop[read];
+                alive[write] = true;
+                alive[read] = false;
+                hosts[read] = null;
+                textures[read] = null;
+                viewports[read] = null;
+                hosts[write].assignAnimationSlot(write);
+            }
+            write++;
+        }
+        count = write;
+    }
+
+    private void grow(int capacity) {
+        hosts = Arrays.copyOf(hosts, capacity);
+        textures = Arrays.copyOf(textures, capacity);
+        viewports = Arrays.copyOf(viewports, capacity);
+        frame = Arrays.copyOf(frame, capacity);
+        frames = Arrays.copyOf(frames, capacity);
+        elapsed = Arrays.copyOf(elapsed, capacity);
+        frameDuration = Arrays.copyOf(frameDuration, capacity);
+        loop = Arrays.copyOf(loop, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+    }
+}
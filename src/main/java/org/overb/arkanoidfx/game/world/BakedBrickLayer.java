@@ -0,0 +1,69 @@
+package org.overb.arkanoidfx.game.world;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import lombok.Getter;
+import org.overb.arkanoidfx.entities.Sprite;
+
+// All static bricks of a level drawn into one Canvas. Cells are drawn once when the level is built
+// and afterwards only when their brick changes frame or goes away.
+public final class BakedBrickLayer {
+
+    @Getter
+    private final Canvas canvas;
+    private final GraphicsContext g;
+    private final int cols;
+    private final double cellW;
+    private final double cellH;
+    private final Sprite[] sprites;
+    private final Image[] images;
+    @Getter
+    private long cellRedraws;
+
+    public BakedBrickLayer(int cols, int rows, double cellW, double cellH) {
+        this.cols = cols;
+        this.cellW = cellW;
+        this.cellH = cellH;
+        this.canvas = new Canvas(cols * cellW, rows * cellH);
+        this.g = canvas.getGraphicsContext2D();
+        this.g.setImageSmoothing(false);
+        this.sprites = new Sprite[cols * rows];
+        this.images = new Image[cols * rows];
+    }
+
+    // image may be null, the cell then gets the same placeholder as a brick without texture
+    public void put(int col, int row, Sprite sprite, Image image) {
+        int index = row * cols + col;
+        sprites[index] = sprite;
+        images[index] = image;
+        drawCell(col, row, 0);
+    }
+
+    public void drawCell(int col, int row, int frame) {
+        int index = row * cols + col;
+        double x = col * cellW;
+        double y = row * cellH;
+        g.clearRect(x, y, cellW, cellH);
+        cellRedraws++;
+        if (images[index] == null) {
+            g.setFill(Color.HOTPINK);
+            g.fillRect(x, y, cellW, cellH);
+            g.setStroke(Color.BLACK);
+            g.strokeRect(x + 0.5, y + 0.5, cellW - 1.0, cellH - 1.0);
+            return;
+        }
+        Sprite sprite = sprites[index];
+        g.drawImage(images[index], sprite.frameX(frame), sprite.frameY(), sprite.frameWidth(), sprite.frameHeight(),
+                x, y, cellW, cellH);
+    }
+
+    public void clearCell(int col, int row) {
+        int index = row * cols + col;
+        sprites[index] = null;
+        images[index] = null;
+        g.clearRect(col * cellW, row * cellH, cellW, cellH);
+        cellRedraws++;
+    }
+}
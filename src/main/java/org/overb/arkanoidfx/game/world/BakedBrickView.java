@@ -0,0 +1,89 @@
+package org.overb.arkanoidfx.game.world;
+
+import com.almasb.fxgl.dsl.EntityBuilder;
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.texture.Texture;
+import lombok.Getter;
+import org.overb.arkanoidfx.audio.SfxBus;
+import org.overb.arkanoidfx.components.BreakAnimComponent;
+import org.overb.arkanoidfx.entities.BrickEntity;
+import org.overb.arkanoidfx.entities.EntityRepository;
+import org.overb.arkanoidfx.entities.SurpriseEntity;
+import org.overb.arkanoidfx.enums.EntityType;
+import org.overb.arkanoidfx.enums.EventType;
+import org.overb.arkanoidfx.game.GameSession;
+import org.overb.arkanoidfx.game.core.EventBus;
+import org.overb.arkanoidfx.game.core.GameEvent;
+import org.overb.arkanoidfx.game.sim.BrickView;
+import org.overb.arkanoidfx.game.sim.SimBrick;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Brick drawn into a BakedBrickLayer: no entity of its own, only a break animation entity once it is destroyed.
+public final class BakedBrickView implements BrickView {
+
+    private final BrickEntity brickEntity;
+    private final BakedBrickLayer layer;
+    private final SurpriseFactory surpriseFactory;
+    private final int col;
+    private final int row;
+    private final double x;
+    private final double y;
+    private final double width;
+    private final double height;
+    @Getter
+    private final SimBrick brick;
+
+    public BakedBrickView(BrickEntity brickEntity, GameSession session, EntityRepository repository, SurpriseFactory surpriseFactory,
+                          BakedBrickLayer layer, int col, int row, double width, double height) {
+        this.brickEntity = brickEntity;
+        this.layer = layer;
+        this.surpriseFactory = surpriseFactory;
+        this.col = col;
+        this.row = row;
+        this.x = col * width;
+        this.y = row * height;
+        this.width = width;
+        this.height = height;
+        this.brick = new SimBrick(brickEntity, session, repository, ThreadLocalRandom.current(), col, row, this);
+    }
+
+    @Override
+    public void playSound(String name) {
+        SfxBus.getInstance().play(name);
+    }
+
+    @Override
+    public void showFrame(int frame) {
+        layer.drawCell(col, row, frame);
+    }
+
+    @Override
+    public void spawnSurprise(SurpriseEntity surprise) {
+        surpriseFactory.buildAt(x, y, surprise).ifPresent(e -> FXGL.getGameWorld().addEntity(e));
+    }
+
+    @Override
+    public void onDestroyed() {
+        layer.clearCell(col, row);
+        if (brickEntity.breakAnim == null) {
+            return;
+        }
+        Texture breakTex = TexturePool.getInstance().obtain(brickEntity.breakAnim, width, height);
+        if (breakTex == null) {
+            return;
+        }
+        // only the animation gets an entity
+        new EntityBuilder()
+                .type(EntityType.BRICK_VISUAL)
+                .at(x, y)
+                .view(breakTex)
+                .with(new BreakAnimComponent(breakTex, brickEntity.breakAnim))
+                .buildAndAttach();
+    }
+
+    @Override
+    public void onLevelCleared() {
+        EventBus.publish(GameEvent.of(EventType.LEVEL_FINISHED));
+    }
+}
@@ -1,6 +1,7 @@
 package org.overb.arkanoidfx.game.world;
 
 import com.almasb.fxgl.dsl.EntityBuilder;
+import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.entity.components.CollidableComponent;
 import com.almasb.fxgl.physics.BoundingShape;
@@ -22,6 +23,8 @@ import java.util.Objects;
 public final class BallFactory {
 
     private final BallEntity defaultBallDefinition;
+    // a multiball burst takes a handful, anything past this is left to the GC
+    private final EntityPool pool = new EntityPool("balls", 32);
 
     public BallFactory(EntityRepository repository) {
         this.defaultBallDefinition = repository.getBalls().values().stream().findFirst().orElse(null);
@@ -31,47 +34,48 @@ public final class BallFactory {
         double ballWidth = EntityType.BALL.getDesignWidth();
         double ballHeight = EntityType.BALL.getDesignHeight();
         double paddleY = ResolutionManager.DESIGN_RESOLUTION.getHeight() - 80;
-        Texture ballTexture = createBallTexture(ballWidth, ballHeight);
         double startX = paddle.getX() + paddle.getWidth() / 2.0 - ballWidth / 2.0;
         double startY = paddleY - ballHeight - 4.0;
-        Entity ball = buildBaseBall(startX, startY, ballWidth, ballHeight, ballTexture);
-        attachBallComponents(ball, ballTexture, paddle);
+        spawnBall(startX, startY, paddle);
     }
 
     public void spawnLaunchedBallAt(double x, double y, Point2D velocity, Entity paddle) {
-        double ballWidth = EntityType.BALL.getDesignWidth();
-        double ballHeight = EntityType.BALL.getDesignHeight();
-        Texture ballTexture = createBallTexture(ballWidth, ballHeight);
-        Entity ball = buildBaseBall(x, y, ballWidth, ballHeight, ballTexture);
-        attachBallComponents(ball, ballTexture, paddle);
+        Entity ball = spawnBall(x, y, paddle);
         ball.getComponent(BallComponent.class).setLaunchedWithVelocity(velocity);
     }
 
+    // the ball takes its BallSystem slot when it enters the world, so the position has to be set first
+    private Entity spawnBall(double x, double y, Entity paddle) {
+        Entity ball = pool.obtain(this::buildBall);
+        ball.setPosition(x, y);
+        ball.getComponent(BallComponent.class).setPaddle(paddle);
+        FXGL.getGameWorld().addEntity(ball);
+        return ball;
+    }
+
     private Texture createBallTexture(double ballWidth, double ballHeight) {
         if (defaultBallDefinition == null || defaultBallDefinition.visual == null || defaultBallDefinition.visual.sprite == null) {
             return null;
         }
-        return TextureUtils.loadTextureOrNull(
-                defaultBallDefinition.visual.sprite,
-                ballWidth,
-                ballHeight,
-                Math.max(1, defaultBallDefinition.visual.frameW),
-                Math.max(1, defaultBallDefinition.visual.frameH)
-        );
+        return TextureUtils.loadTextureOrNull(defaultBallDefinition.visual, ballWidth, ballHeight);
     }
 
-    private Entity buildBaseBall(double x, double y, double ballWidth, double ballHeight, Texture ballTexture) {
-        return new EntityBuilder()
+    private Entity buildBall() {
+        double ballWidth = EntityType.BALL.getDesignWidth();
+        double ballHeight = EntityType.BALL.getDesignHeight();
+        Texture ballTexture = createBallTexture(ballWidth, ballHeight);
+        Entity ball = new EntityBuilder()
                 .type(EntityType.BALL)
-                .at(x, y)
                 .view(Objects.requireNonNullElseGet(ballTexture, () -> new Rectangle(ballWidth, ballHeight, Color.ORANGE)))
                 .bbox(new HitBox(BoundingShape.circle(Math.min(ballWidth, ballHeight) / 2.0)))
                 .with(new CollidableComponent(true))
-                .buildAndAttach();
+                .build();
+        attachBallComponents(ball, ballTexture);
+        return ball;
     }
 
-    private void attachBallComponents(Entity ball, Texture ballTexture, Entity paddle) {
-        BallComponent ballComponent = new BallComponent(paddle);
+    private void attachBallComponents(Entity ball, Texture ballTexture) {
+        BallComponent ballComponent = new BallComponent(null);
         if (defaultBallDefinition != null && defaultBallDefinition.sounds != null) {
             ballComponent.setSounds(defaultBallDefinition.sounds.hitWall, defaultBallDefinition.sounds.hitPaddle, defaultBallDefinition.sounds.lost);
         }
@@ -80,13 +84,7 @@ public final class BallFactory {
             int frames = Math.max(1, defaultBallDefinition.visual.frames);
             double frameDuration = defaultBallDefinition.visual.frameDuration > 0 ? defaultBallDefinition.visual.frameDuration : 0.0;
             if (frames > 1 && frameDuration > 0) {
-                ball.addComponent(new BallAnimComponent(
-                        ballTexture,
-                        frames,
-                        Math.max(1, defaultBallDefinition.visual.frameW),
-                        Math.max(1, defaultBallDefinition.visual.frameH),
-                        frameDuration
-                ));
+                ball.addComponent(new BallAnimComponent(ballTexture, defaultBallDefinition.visual));
             }
         }
     }
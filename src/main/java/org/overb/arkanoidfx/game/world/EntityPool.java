@@ -0,0 +1,89 @@
+package org.overb.arkanoidfx.game.world;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.component.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+// Free list of reusable FXGL entities. An entity returns to the pool when it is removed from the world
+// and keeps its view, hit box and components. Callers reset it, position it and add it to the world again.
+// A removed entity stays in the world's update list until the next world update cleans it up, so it is
+// only parked on removal and handed out again once the world has let go of it.
+public final class EntityPool {
+
+    private final int maxFree;
+    private final ArrayDeque<Entity> free = new ArrayDeque<>();
+    // removed from the world but not cleaned up by it yet
+    private final ArrayList<Entity> pending = new ArrayList<>();
+    private final PoolMetrics metrics;
+
+    public EntityPool(String name, int maxFree) {
+        this.maxFree = maxFree;
+        this.metrics = PoolMetrics.register(name);
+    }
+
+    // the builder must not attach the entity, it is only called when the pool is empty
+    public Entity obtain(Supplier<Entity> builder) {
+        flushPending();
+        Entity entity = free.poll();
+        if (entity != null) {
+            metrics.onReused();
+            return entity;
+        }
+        Entity created = builder.get();
+        created.setReusable(true);
+        created.setOnActive(() -> forEachPooled(created, true));
+        created.setOnNotActive(() -> park(created));
+        metrics.onCreated();
+        return created;
+    }
+
+    public void clear() {
+        metrics.onCleared(free.size());
+        free.clear();
+        for (int i = 0; i < pending.size(); i++) {
+            metrics.onReleased(false);
+        }
+        pending.clear();
+    }
+
+    private void park(Entity entity) {
+        forEachPooled(entity, false);
+        pending.add(entity);
+    }
+
+    // the world drops its reference when it cleans a removed entity up
+    private void flushPending() {
+        for (int i = pending.size() - 1; i >= 0; i--) {
+            Entity entity = pending.get(i);
+            if (entity.getWorld() == null) {
+                int last = pending.size() - 1;
+                pending.set(i, pending.get(last));
+                pending.remove(last);
+                release(entity);
+            }
+        }
+    }
+
+    private void release(Entity entity) {
+        boolean kept = free.size() < maxFree;
+        if (kept) {
+            free.push(entity);
+        }
+        metrics.onReleased(kept);
+    }
+
+    private static void forEachPooled(Entity entity, boolean acquired) {
+        for (Component component : entity.getComponents()) {
+            if (component instanceof PooledComponent pooled) {
+                if (acquired) {
+                    pooled.onAcquired();
+                } else {
+                    pooled.onReleased();
+                }
+            }
+        }
+    }
+}
@@ -47,13 +47,7 @@ public final class PaddleFactory {
 
         Texture paddleTexture = null;
         if (paddleDefinition != null && paddleDefinition.visual != null && paddleDefinition.visual.sprite != null) {
-            paddleTexture = org.overb.arkanoidfx.util.TextureUtils.loadTextureOrNull(
-                    paddleDefinition.visual.sprite,
-                    paddleWidth,
-                    paddleHeight,
-                    Math.max(1, paddleDefinition.visual.frameW),
-                    Math.max(1, paddleDefinition.visual.frameH)
-            );
+            paddleTexture = org.overb.arkanoidfx.util.TextureUtils.loadTextureOrNull(paddleDefinition.visual, paddleWidth, paddleHeight);
         }
         EntityBuilder builder = new EntityBuilder()
                 .type(EntityType.PADDLE)
@@ -67,13 +61,7 @@ public final class PaddleFactory {
             int frames = Math.max(1, paddleDefinition.visual.frames);
             double frameDuration = paddleDefinition.visual.frameDuration > 0 ? paddleDefinition.visual.frameDuration : 0.0;
             if (frames > 1 && frameDuration > 0) {
-                paddle.addComponent(new PaddleAnimComponent(
-                        paddleTexture,
-                        frames,
-                        Math.max(1, paddleDefinition.visual.frameW),
-                        Math.max(1, paddleDefinition.visual.frameH),
-                        frameDuration
-                ));
+                paddle.addComponent(new PaddleAnimComponent(paddleTexture, paddleDefinition.visual));
             }
         }
         return paddle;
@@ -0,0 +1,63 @@
+package org.overb.arkanoidfx.game.world;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Counters of one object pool, listed by name for the JMX Pools bean.
+@Getter
+public final class PoolMetrics {
+
+    private static final List<PoolMetrics> ALL = new CopyOnWriteArrayList<>();
+
+    private final String name;
+    private volatile long created;
+    private volatile long reused;
+    private volatile long dropped;
+    private volatile int free;
+    private volatile int inUse;
+
+    private PoolMetrics(String name) {
+        this.name = name;
+    }
+
+    public static PoolMetrics register(String name) {
+        for (PoolMetrics metrics : ALL) {
+            if (metrics.name.equals(name)) {
+                return metrics;
+            }
+        }
+        PoolMetrics metrics = new PoolMetrics(name);
+        ALL.add(metrics);
+        return metrics;
+    }
+
+    public static List<PoolMetrics> all() {
+        return ALL;
+    }
+
+    void onCreated() {
+        created++;
+        inUse++;
+    }
+
+    void onReused() {
+        reused++;
+        inUse++;
+        free--;
+    }
+
+    void onReleased(boolean kept) {
+        inUse--;
+        if (kept) {
+            free++;
+        } else {
+            dropped++;
+        }
+    }
+
+    void onCleared(int count) {
+        free -= count;
+    }
+}
@@ -0,0 +1,10 @@
+package org.overb.arkanoidfx.game.world;
+
+// Component of a pooled entity. Pooled entities keep their components between uses, so work that
+// would normally happen in onAdded/onRemoved happens here, every time the entity enters or leaves the world.
+public interface PooledComponent {
+
+    void onAcquired();
+
+    void onReleased();
+}
@@ -2,41 +2,71 @@ package org.overb.arkanoidfx.game.world;
 
 import com.almasb.fxgl.dsl.EntityBuilder;
 import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.components.BoundingBoxComponent;
 import com.almasb.fxgl.entity.components.CollidableComponent;
 import com.almasb.fxgl.physics.BoundingShape;
 import com.almasb.fxgl.physics.HitBox;
 import com.almasb.fxgl.texture.Texture;
 import javafx.scene.Group;
+import javafx.scene.image.Image;
 import org.overb.arkanoidfx.components.BallAnimComponent;
 import org.overb.arkanoidfx.components.SurpriseComponent;
 import org.overb.arkanoidfx.entities.SurpriseEntity;
 import org.overb.arkanoidfx.enums.EntityType;
+import org.overb.arkanoidfx.util.ImageCache;
 import org.overb.arkanoidfx.util.TextureUtils;
 
 import java.util.Optional;
 
+// Surprise drops come from one pool whatever their kind, a reused entity is re-skinned for the new definition.
 public final class SurpriseFactory {
 
+    private final EntityPool pool = new EntityPool("surprises", 32);
+
+    // the entity is positioned but not attached, the caller adds it to the world
     public Optional<Entity> buildAt(double x, double y, SurpriseEntity def) {
+        Image image = ImageCache.getInstance().get(def.visual.sprite);
+        if (image == null) {
+            return Optional.empty();
+        }
+        Entity entity = pool.obtain(() -> build(def));
+        reset(entity, def, image);
+        entity.setPosition(x, y);
+        return Optional.of(entity);
+    }
+
+    private Entity build(SurpriseEntity def) {
         Group viewRoot = new Group();
         viewRoot.setAutoSizeChildren(false);
         int frameW = Math.max(1, def.visual.frameW);
         int frameH = Math.max(1, def.visual.frameH);
-        Texture tex = TextureUtils.loadTextureOrNull(def.visual.sprite, frameW, frameH, frameW, frameH);
+        Texture tex = TextureUtils.loadTextureOrNull(def.visual, frameW, frameH);
         viewRoot.getChildren().add(tex);
-        Entity entity = new EntityBuilder()
+        return new EntityBuilder()
                 .type(EntityType.SURPRISE)
-                .at(x, y)
                 .view(viewRoot)
                 .bbox(new HitBox(BoundingShape.box(frameW, frameH)))
                 .with(new CollidableComponent(true))
                 .with(new SurpriseComponent(def))
+                // single frame surprises get a slot as well, it only shows the first frame
+                .with(new BallAnimComponent(tex, def.visual))
                 .build();
-        int frames = Math.max(1, def.visual.frames);
-        double frameDuration = def.visual.frameDuration > 0 ? def.visual.frameDuration : 0.0;
-        if (frames > 1 && frameDuration > 0.0) {
-            entity.addComponent(new BallAnimComponent(tex, frames, frameW, frameH, frameDuration));
+    }
+
+    private void reset(Entity entity, SurpriseEntity def, Image image) {
+        int frameW = Math.max(1, def.visual.frameW);
+        int frameH = Math.max(1, def.visual.frameH);
+        entity.getComponent(SurpriseComponent.class).setSurpriseDefinition(def);
+        BallAnimComponent anim = entity.getComponent(BallAnimComponent.class);
+        anim.setSprite(def.visual);
+        Texture tex = anim.getTexture();
+        tex.setImage(image);
+        tex.setFitWidth(frameW);
+        tex.setFitHeight(frameH);
+        BoundingBoxComponent bbox = entity.getBoundingBoxComponent();
+        if (bbox.getWidth() != frameW || bbox.getHeight() != frameH) {
+            bbox.clearHitBoxes();
+            bbox.addHitBox(new HitBox(BoundingShape.box(frameW, frameH)));
         }
-        return Optional.of(entity);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package org.overb.arkanoidfx.game.world;
+
+import com.almasb.fxgl.texture.Texture;
+import javafx.scene.Group;
+import javafx.scene.image.Image;
+import org.overb.arkanoidfx.entities.Sprite;
+import org.overb.arkanoidfx.util.ImageCache;
+import org.overb.arkanoidfx.util.ViewportCache;
+
+import java.util.ArrayDeque;
+
+// Reusable textures for brick break animations. Every texture is reset to the requested sprite,
+// size and first frame, so they can be shared between sprites.
+public final class TexturePool {
+
+    private static final int MAX_FREE = 64;
+    private static final TexturePool INSTANCE = new TexturePool();
+
+    private final ArrayDeque<Texture> free = new ArrayDeque<>();
+    private final PoolMetrics metrics = PoolMetrics.register("breakTextures");
+
+    public static TexturePool getInstance() {
+        return INSTANCE;
+    }
+
+    // null when the sprite has no image
+    public Texture obtain(Sprite sprite, double targetWidth, double targetHeight) {
+        Image image = ImageCache.getInstance().get(sprite.sprite);
+        if (image == null) {
+            return null;
+        }
+        Texture texture = free.poll();
+        if (texture == null) {
+            texture = new Texture(image);
+            texture.setPreserveRatio(false);
+            texture.setSmooth(false);
+            metrics.onCreated();
+        } else {
+            texture.setImage(image);
+            metrics.onReused();
+        }
+        texture.setFitWidth(targetWidth);
+        texture.setFitHeight(targetHeight);
+        texture.setTranslateX(0);
+        texture.setTranslateY(0);
+        texture.setViewport(ViewportCache.getInstance().get(sprite, 0));
+        return texture;
+    }
+
+    public void release(Texture texture) {
+        if (texture.getParent() instanceof Group group) {
+            group.getChildren().remove(texture);
+        }
+        boolean kept = free.size() < MAX_FREE;
+        if (kept) {
+            free.push(texture);
+        }
+        metrics.onReleased(kept);
+    }
+}
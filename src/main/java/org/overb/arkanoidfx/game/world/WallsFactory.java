@@ -13,8 +13,10 @@ import javafx.scene.image.Image;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
+import org.overb.arkanoidfx.components.BallComponent;
 import org.overb.arkanoidfx.enums.EntityType;
 import org.overb.arkanoidfx.game.ResolutionManager;
+import org.overb.arkanoidfx.game.physics.WallPlanes;
 
 public final class WallsFactory {
 
@@ -27,30 +29,22 @@ public final class WallsFactory {
     private FadeTransition expireFlicker;
 
     public void spawnWalls() {
+        double width = ResolutionManager.DESIGN_RESOLUTION.getWidth();
+        double height = ResolutionManager.DESIGN_RESOLUTION.getHeight();
+        spawnWall(EntityType.WALL_LEFT, 0, 0, 2, height);
+        spawnWall(EntityType.WALL_RIGHT, width - 2, 0, 2, height);
+        spawnWall(EntityType.WALL_TOP, 0, -2, width, 2);
+        spawnWall(EntityType.WALL_BOTTOM_SENSOR, 0, height - 2, width, 50);
+    }
+
+    private void spawnWall(EntityType type, double x, double y, double width, double height) {
         new EntityBuilder()
-                .type(EntityType.WALL_LEFT)
-                .at(0, 0)
-                .bbox(new HitBox(BoundingShape.box(2, ResolutionManager.DESIGN_RESOLUTION.getHeight())))
-                .with(new CollidableComponent(true))
-                .buildAndAttach();
-        new EntityBuilder()
-                .type(EntityType.WALL_RIGHT)
-                .at(ResolutionManager.DESIGN_RESOLUTION.getWidth() - 2, 0)
-                .bbox(new HitBox(BoundingShape.box(2, ResolutionManager.DESIGN_RESOLUTION.getHeight())))
-                .with(new CollidableComponent(true))
-                .buildAndAttach();
-        new EntityBuilder()
-                .type(EntityType.WALL_TOP)
-                .at(0, -2)
-                .bbox(new HitBox(BoundingShape.box(ResolutionManager.DESIGN_RESOLUTION.getWidth(), 2)))
-                .with(new CollidableComponent(true))
-                .buildAndAttach();
-        new EntityBuilder()
-                .type(EntityType.WALL_BOTTOM_SENSOR)
-                .at(0, ResolutionManager.DESIGN_RESOLUTION.getHeight() - 2)
-                .bbox(new HitBox(BoundingShape.box(ResolutionManager.DESIGN_RESOLUTION.getWidth(), 50)))
+                .type(type)
+                .at(x, y)
+                .bbox(new HitBox(BoundingShape.box(width, height)))
                 .with(new CollidableComponent(true))
                 .buildAndAttach();
+        WallPlanes.getInstance().register(type, x, y, width, height);
     }
 
     public void enableSafetyWall(double durationSeconds) {
@@ -69,6 +63,7 @@ public final class WallsFactory {
                     .bbox(new HitBox(BoundingShape.box(sceneWidth, bboxHeight)))
                     .with(new CollidableComponent(true))
                     .buildAndAttach();
+            WallPlanes.getInstance().register(EntityType.WALL_SAFETY, 0, y, sceneWidth, bboxHeight);
 
             safetyWallView = viewRect;
             if (appearFade != null) {
@@ -96,6 +91,7 @@ public final class WallsFactory {
             if (safetyWall != null && safetyWall.isActive()) {
                 safetyWall.removeFromWorld();
             }
+            WallPlanes.getInstance().unregister(EntityType.WALL_SAFETY);
             safetyWall = null;
             safetyWallView = null;
             safetyWallTimer = null;
@@ -182,7 +178,12 @@ public final class WallsFactory {
             double ballBottom = ball.getY() + ball.getHeight();
             boolean overlapsVertically = ballBottom > wallTop && ballTop < wallBottom;
             if (overlapsVertically) {
-                ball.setY(wallTop - ball.getHeight() - epsilon);
+                var bc = ball.getComponentOptional(BallComponent.class).orElse(null);
+                if (bc != null) {
+                    bc.setPosition(ball.getX(), wallTop - ball.getHeight() - epsilon);
+                } else {
+                    ball.setY(wallTop - ball.getHeight() - epsilon);
+                }
             }
         }
     }
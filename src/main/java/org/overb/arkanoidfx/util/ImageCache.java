@@ -0,0 +1,101 @@
+package org.overb.arkanoidfx.util;
+
+import javafx.scene.image.Image;
+import lombok.Getter;
+import lombok.extern.java.Log;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
+// Decoded sprite sheets and atlas pages shared by every view that shows them. Textures scale the image
+// through their fit size, so one decode per sheet serves all target sizes. Only used from the FX thread.
+@Log
+public final class ImageCache {
+
+    private static final String BASE = "/assets/textures/";
+    private static final ImageCache INSTANCE = new ImageCache();
+
+    private final Map<String, Image> images = new HashMap<>();
+    // built at startup rather than decoded, they survive clear()
+    private final Map<String, Image> pinned = new HashMap<>();
+    @Getter
+    private long bytes;
+    @Getter
+    private long hits;
+    @Getter
+    private long misses;
+
+    public static ImageCache getInstance() {
+        return INSTANCE;
+    }
+
+    // null when the sprite does not exist or fails to decode, failures are not cached
+    public Image get(String spritePath) {
+        if (spritePath == null || spritePath.isBlank()) {
+            return null;
+        }
+        Image image = pinned.get(spritePath);
+        if (image == null) {
+            image = images.get(spritePath);
+        }
+        if (image != null) {
+            hits++;
+            return image;
+        }
+        misses++;
+        image = decode(spritePath);
+        if (image != null) {
+            images.put(spritePath, image);
+            bytes += sizeOf(image);
+        }
+        return image;
+    }
+
+    public void pin(String key, Image image) {
+        Image previous = pinned.put(key, image);
+        if (previous != null) {
+            bytes -= sizeOf(previous);
+        }
+        bytes += sizeOf(image);
+    }
+
+    public int getSize() {
+        return images.size() + pinned.size();
+    }
+
+    // views that are still shown keep their image, the next level decodes its own sheets once
+    public void clear() {
+        if (!images.isEmpty()) {
+            log.info("Image cache: " + getSize() + " images, " + (bytes / 1024) + " KB, " + hits + " hits, " + misses + " misses");
+        }
+        for (Image image : images.values()) {
+            bytes -= sizeOf(image);
+        }
+        images.clear();
+    }
+
+    public void resetCounters() {
+        hits = 0;
+        misses = 0;
+    }
+
+    private Image decode(String spritePath) {
+        URL url = ImageCache.class.getResource(spritePath.startsWith("/") ? spritePath : BASE + spritePath);
+        if (url == null) {
+            log.warning("Sprite not found: " + spritePath);
+            return null;
+        }
+        Image image = new Image(url.toExternalForm());
+        if (image.isError()) {
+            log.warning("Failed to decode sprite " + spritePath + ": " + image.getException());
+            return null;
+        }
+        return image;
+    }
+
+    // decoded images are held as 32-bit pixels
+    private static long sizeOf(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * 4L;
+    }
+}
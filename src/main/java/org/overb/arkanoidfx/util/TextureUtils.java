@@ -1,27 +1,29 @@
 package org.overb.arkanoidfx.util;
 
-import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.texture.Texture;
-import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import org.overb.arkanoidfx.entities.Sprite;
 
 public final class TextureUtils {
 
     private TextureUtils() {
     }
 
-    public static Texture loadTextureOrNull(String spritePath, double targetWidth, double targetHeight, int frameW, int frameH) {
-        if (spritePath == null || spritePath.isBlank()) {
+    public static Texture loadTextureOrNull(Sprite sprite, double targetWidth, double targetHeight) {
+        if (sprite == null || sprite.sprite == null || sprite.sprite.isBlank()) {
             return null;
         }
         try {
-            Texture tex = FXGL.texture(spritePath);
+            Image image = ImageCache.getInstance().get(sprite.sprite);
+            if (image == null) {
+                return null;
+            }
+            Texture tex = new Texture(image);
             tex.setFitWidth(targetWidth);
             tex.setFitHeight(targetHeight);
             tex.setPreserveRatio(false);
             tex.setSmooth(false);
-            int fw = Math.max(1, frameW);
-            int fh = Math.max(1, frameH);
-            tex.setViewport(new Rectangle2D(0, 0, fw, fh));
+            setViewportFrame(tex, sprite, 0);
             tex.setTranslateX(0);
             tex.setTranslateY(0);
             return tex;
@@ -30,11 +32,8 @@ public final class TextureUtils {
         }
     }
 
-    public static void setViewportFrame(Texture texture, int frameIndex, int frameW, int frameH) {
+    public static void setViewportFrame(Texture texture, Sprite sprite, int frameIndex) {
         if (texture == null) return;
-        int fw = Math.max(1, frameW);
-        int fh = Math.max(1, frameH);
-        double x = (double) Math.max(0, frameIndex) * fw;
-        texture.setViewport(new Rectangle2D(x, 0, fw, fh));
+        texture.setViewport(ViewportCache.getInstance().get(sprite, frameIndex));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package org.overb.arkanoidfx.util;
+
+import javafx.geometry.Rectangle2D;
+import org.overb.arkanoidfx.entities.Sprite;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+// Viewport rectangles of every sprite frame, shared by the textures that show them. Sprites only hold
+// primitive frame offsets so that the simulation core loads without JavaFX. Only used from the FX thread.
+public final class ViewportCache {
+
+    private static final ViewportCache INSTANCE = new ViewportCache();
+
+    private final Map<Sprite, Rectangle2D[]> viewports = new IdentityHashMap<>();
+
+    public static ViewportCache getInstance() {
+        return INSTANCE;
+    }
+
+    // one viewport per frame, rebuilt when packing into an atlas moved the sprite's frames
+    public Rectangle2D[] get(Sprite sprite) {
+        Rectangle2D[] table = viewports.get(sprite);
+        if (table == null || table.length != sprite.frameCount()
+                || table[0].getMinX() != sprite.frameX(0) || table[0].getMinY() != sprite.frameY()) {
+            table = new Rectangle2D[sprite.frameCount()];
+            for (int i = 0; i < table.length; i++) {
+                table[i] = new Rectangle2D(sprite.frameX(i), sprite.frameY(), sprite.frameWidth(), sprite.frameHeight());
+            }
+            viewports.put(sprite, table);
+        }
+        return table;
+    }
+
+    public Rectangle2D get(Sprite sprite, int frame) {
+        Rectangle2D[] table = get(sprite);
+        return table[Math.max(0, Math.min(table.length - 1, frame))];
+    }
+}
@@ -0,0 +1,89 @@
+package org.overb.arkanoidfx.game.core;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.overb.arkanoidfx.enums.EventType;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Deferred mode is what the game runs: one owner thread publishes during the frame and drains once at its end.
+class EventBusTest {
+
+    private static final int FRAMES = 10_000;
+
+    private int hudUpdates;
+    private int ballsLost;
+    private final Consumer<GameEvent> onHud = e -> hudUpdates++;
+    private final Consumer<GameEvent> onBallLost = e -> ballsLost++;
+
+    @AfterEach
+    void tearDown() {
+        EventBus.setDeferred(false);
+        EventBus.unsubscribe(EventType.HUD_UPDATE, onHud);
+        EventBus.unsubscribe(EventType.BALL_LOST, onBallLost);
+    }
+
+    @Test
+    void hudUpdatesCoalesceIntoOneDispatchPerFrame() {
+        subscribe();
+        EventBus.setDeferred(true);
+        frame();
+        assertEquals(1, hudUpdates);
+        assertEquals(2, ballsLost);
+    }
+
+    @Test
+    void deferredFramesAllocateNothing() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        subscribe();
+        EventBus.setDeferred(true);
+        for (int i = 0; i < FRAMES; i++) {
+            frame();
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < FRAMES; i++) {
+            frame();
+        }
+        assertEquals(0L, threads.getCurrentThreadAllocatedBytes() - before);
+        assertEquals(FRAMES * 2, hudUpdates);
+    }
+
+    @Test
+    void otherThreadsCannotPublishWhileDeferred() throws Exception {
+        EventBus.setDeferred(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread other = new Thread(() -> {
+            try {
+                EventBus.publish(GameEvent.of(EventType.HUD_UPDATE));
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        other.start();
+        other.join();
+        assertTrue(failure.get() instanceof IllegalStateException);
+    }
+
+    private void subscribe() {
+        EventBus.subscribe(EventType.HUD_UPDATE, onHud);
+        EventBus.subscribe(EventType.BALL_LOST, onBallLost);
+    }
+
+    private static void frame() {
+        EventBus.publish(GameEvent.of(EventType.HUD_UPDATE));
+        EventBus.publish(GameEvent.of(EventType.BALL_LOST));
+        EventBus.publish(GameEvent.of(EventType.HUD_UPDATE));
+        EventBus.publish(GameEvent.of(EventType.BALL_LOST));
+        EventBus.publish(GameEvent.of(EventType.HUD_UPDATE));
+        EventBus.drain();
+    }
+}
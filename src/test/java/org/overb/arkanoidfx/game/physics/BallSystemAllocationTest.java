@@ -0,0 +1,134 @@
+package org.overb.arkanoidfx.game.physics;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.overb.arkanoidfx.entities.BrickEntity;
+import org.overb.arkanoidfx.entities.SurpriseEntity;
+import org.overb.arkanoidfx.enums.BallStepMode;
+import org.overb.arkanoidfx.enums.EntityType;
+import org.overb.arkanoidfx.game.sim.BrickView;
+import org.overb.arkanoidfx.game.sim.SimBall;
+import org.overb.arkanoidfx.game.sim.SimBrick;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// A frame of ball movement must not allocate: 30 headless balls bouncing in a closed arena under
+// a block of indestructible bricks, measured with the allocation counter of the stepping thread.
+class BallSystemAllocationTest {
+
+    private static final double WIDTH = 1920;
+    private static final double HEIGHT = 1080;
+    private static final double FRAME = 1.0 / 60.0;
+    private static final int BALLS = 30;
+    private static final int WARMUP_FRAMES = 5_000;
+    private static final int MEASURED_FRAMES = 1_000;
+
+    private final List<SimBall> balls = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (SimBall ball : balls) {
+            ball.dispose();
+        }
+        balls.clear();
+        BrickGrid.getInstance().clear();
+        WallPlanes.getInstance().unregister(EntityType.WALL_SAFETY);
+        BallSystem.getInstance().setStepMode(BallStepMode.SUBSTEPS);
+        BallSystem.getInstance().setWorkers(1);
+    }
+
+    @Test
+    void substepsFrameAllocatesNothing() {
+        assertEquals(0L, bytesPerRun(BallStepMode.SUBSTEPS, 1));
+    }
+
+    @Test
+    void eventDrivenFrameAllocatesNothing() {
+        assertEquals(0L, bytesPerRun(BallStepMode.EVENT_DRIVEN, 1));
+    }
+
+    @Test
+    void parallelFrameAllocatesNothingOnTheGameThread() {
+        assertEquals(0L, bytesPerRun(BallStepMode.PARALLEL, 4));
+    }
+
+    private long bytesPerRun(BallStepMode mode, int workers) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        BallSystem ballSystem = BallSystem.getInstance();
+        ballSystem.setStepMode(mode);
+        ballSystem.setWorkers(workers);
+        buildWorld();
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            ballSystem.step(FRAME);
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_FRAMES; i++) {
+            ballSystem.step(FRAME);
+        }
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private void buildWorld() {
+        WallPlanes walls = WallPlanes.getInstance();
+        walls.register(EntityType.WALL_LEFT, 0, 0, 2, HEIGHT);
+        walls.register(EntityType.WALL_RIGHT, WIDTH - 2, 0, 2, HEIGHT);
+        walls.register(EntityType.WALL_TOP, 0, -2, WIDTH, 2);
+        walls.unregister(EntityType.WALL_BOTTOM_SENSOR);
+        walls.register(EntityType.WALL_SAFETY, 0, HEIGHT - 8, WIDTH, 8);
+
+        BrickGrid grid = BrickGrid.getInstance();
+        grid.reset(24, 12, EntityType.BRICK.getDesignWidth(), EntityType.BRICK.getDesignHeight());
+        BrickEntity definition = new BrickEntity();
+        definition.hp = -1;
+        SplittableRandom random = new SplittableRandom(42L);
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int col = 0; col < grid.getCols(); col++) {
+                grid.put(col, row, new SimBrick(definition, null, null, random, col, row, new NoView()));
+            }
+        }
+
+        double ballW = EntityType.BALL.getDesignWidth();
+        double ballH = EntityType.BALL.getDesignHeight();
+        double top = grid.getRows() * grid.getCellH() + ballH;
+        for (int i = 0; i < BALLS; i++) {
+            double x = 10 + random.nextDouble(WIDTH - 20 - ballW);
+            double y = top + random.nextDouble(HEIGHT - 20 - ballH - top);
+            SimBall ball = new SimBall(null, null, x, y, ballW, ballH);
+            double angle = random.nextDouble(Math.PI * 2);
+            BallSystem.getInstance().launchWithVelocity(ball.getSlot(), Math.cos(angle) * BallSystem.BASE_SPEED, Math.sin(angle) * BallSystem.BASE_SPEED);
+            balls.add(ball);
+        }
+    }
+
+    private static final class NoView implements BrickView {
+
+        @Override
+        public void playSound(String name) {
+        }
+
+        @Override
+        public void showFrame(int frame) {
+        }
+
+        @Override
+        public void spawnSurprise(SurpriseEntity surprise) {
+        }
+
+        @Override
+        public void onDestroyed() {
+        }
+
+        @Override
+        public void onLevelCleared() {
+        }
+    }
+}
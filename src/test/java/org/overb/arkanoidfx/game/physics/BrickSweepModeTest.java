@@ -0,0 +1,96 @@
+package org.overb.arkanoidfx.game.physics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.overb.arkanoidfx.enums.BrickSweepMode;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Every sweep mode has to report the same brick at the same distance as BRUTE_FORCE. Balls start on cell
+// lines and move along the axes or diagonals often, so that two bricks are reached at exactly the same distance.
+class BrickSweepModeTest {
+
+    private static final int COLS = 16;
+    private static final int ROWS = 10;
+    private static final double CELL_W = 64;
+    private static final double CELL_H = 32;
+    private static final double RADIUS = 9;
+    private static final int SWEEPS = 100_000;
+
+    private final SweepHit expected = new SweepHit();
+    private final SweepHit actual = new SweepHit();
+
+    @AfterEach
+    void tearDown() {
+        BrickGrid.getInstance().clear();
+        BrickGrid.getInstance().setSweepMode(BrickSweepMode.BROADPHASE);
+    }
+
+    @Test
+    void broadphaseMatchesBruteForce() {
+        assertSameHits(BrickSweepMode.BROADPHASE);
+    }
+
+    @Test
+    void gridTraversalMatchesBruteForce() {
+        assertSameHits(BrickSweepMode.GRID_TRAVERSAL);
+    }
+
+    @Test
+    void batchMatchesBruteForce() {
+        assertSameHits(BrickSweepMode.BATCH);
+    }
+
+    private void assertSameHits(BrickSweepMode mode) {
+        BrickGrid grid = BrickGrid.getInstance();
+        SplittableRandom random = new SplittableRandom(42L);
+        grid.reset(COLS, ROWS, CELL_W, CELL_H);
+        for (int row = 0; row < ROWS; row++) {
+            for (int col = 0; col < COLS; col++) {
+                if (random.nextInt(4) != 0) {
+                    grid.put(col, row, new FixedBrick());
+                }
+            }
+        }
+        int hits = 0;
+        for (int i = 0; i < SWEEPS; i++) {
+            double cx = random.nextBoolean() ? random.nextInt(COLS * 2 + 1) * CELL_W / 2.0 : random.nextDouble(COLS * CELL_W);
+            double cy = ROWS * CELL_H + RADIUS + random.nextDouble(200);
+            double angle = random.nextBoolean()
+                    ? Math.toRadians(random.nextInt(8) * 45.0)
+                    : random.nextDouble(Math.PI * 2);
+            double dirX = Math.sin(angle);
+            double dirY = -Math.cos(angle);
+            double maxDistance = 100 + random.nextDouble(800);
+
+            grid.setSweepMode(BrickSweepMode.BRUTE_FORCE);
+            expected.reset();
+            grid.sweep(cx, cy, dirX, dirY, RADIUS, maxDistance, expected);
+            grid.setSweepMode(mode);
+            actual.reset();
+            grid.sweep(cx, cy, dirX, dirY, RADIUS, maxDistance, actual);
+
+            assertTrue(expected.brick == actual.brick, mode + " picked another brick on sweep " + i);
+            assertEquals(expected.distance, actual.distance);
+            if (expected.isHit()) {
+                hits++;
+            }
+        }
+        assertTrue(hits > SWEEPS / 4);
+    }
+
+    private static final class FixedBrick implements BrickBody {
+
+        @Override
+        public boolean isDestroyed() {
+            return false;
+        }
+
+        @Override
+        public void onBallHit(int ballSlot) {
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.overb.arkanoidfx.game.physics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.overb.arkanoidfx.entities.EntityRepository;
+import org.overb.arkanoidfx.enums.BallStepMode;
+import org.overb.arkanoidfx.game.loaders.DefinitionsLoader;
+import org.overb.arkanoidfx.game.loaders.LevelLoader;
+import org.overb.arkanoidfx.game.sim.Simulation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// PARALLEL has to play exactly the same game as SUBSTEPS, with enough balls to fight over the same bricks.
+class ParallelStepModeTest {
+
+    private static final double TICK = 1.0 / 120.0;
+    private static final long SEED = 42L;
+    private static final int EXTRA_BALLS = 24;
+    private static final int TICKS = 3000;
+
+    @AfterEach
+    void restoreStepMode() {
+        BallSystem.getInstance().setStepMode(BallStepMode.SUBSTEPS);
+        BallSystem.getInstance().setWorkers(1);
+    }
+
+    @Test
+    void parallelPlaysTheSameGameAsSubsteps() throws Exception {
+        Playthrough sequential = play(BallStepMode.SUBSTEPS, 1);
+        Playthrough parallel = play(BallStepMode.PARALLEL, 4);
+        assertTrue(sequential.bricksDestroyed() > 0);
+        assertArrayEquals(sequential.trace(), parallel.trace());
+    }
+
+    @Test
+    void workersOnlyRunWhileParallel() throws Exception {
+        play(BallStepMode.SUBSTEPS, 0);
+        assertEquals(0, workerThreads());
+        play(BallStepMode.PARALLEL, 4);
+        assertEquals(3, workerThreads());
+        BallSystem.getInstance().setStepMode(BallStepMode.SUBSTEPS);
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (workerThreads() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, workerThreads());
+    }
+
+    private static long workerThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.isAlive() && thread.getName().startsWith("ball-worker-"))
+                .count();
+    }
+
+    // one fingerprint per tick over the score, bricks destroyed, paddle position and every ball velocity
+    private static Playthrough play(BallStepMode mode, int workers) throws Exception {
+        BallSystem balls = BallSystem.getInstance();
+        balls.setStepMode(mode);
+        balls.setWorkers(workers);
+        EntityRepository repository = DefinitionsLoader.fromClasspath().loadAll();
+        LevelLoader levels = new LevelLoader();
+        Simulation simulation = new Simulation(repository, SEED);
+        simulation.loadLevel(levels.loadLevel(levels.loadLevelOrder().getFirst()));
+        simulation.launchExtraBalls(EXTRA_BALLS);
+        long[] trace = new long[TICKS];
+        int bricksDestroyed;
+        try {
+            for (int tick = 0; tick < TICKS && !simulation.isFinished(); tick++) {
+                simulation.step(TICK);
+                long hash = simulation.getSession().getScoreRounded();
+                hash = hash * 31 + simulation.getBricksDestroyed();
+                hash = hash * 31 + Double.hashCode(simulation.getPaddle().getX());
+                for (int slot = 0; slot < balls.getCount(); slot++) {
+                    hash = hash * 31 + Double.hashCode(balls.getVelocityX(slot));
+                    hash = hash * 31 + Double.hashCode(balls.getVelocityY(slot));
+                }
+                trace[tick] = hash;
+            }
+            bricksDestroyed = simulation.getBricksDestroyed();
+        } finally {
+            simulation.dispose();
+        }
+        return new Playthrough(trace, bricksDestroyed);
+    }
+
+    private record Playthrough(long[] trace, int bricksDestroyed) {
+    }
+}
@@ -0,0 +1,77 @@
+package org.overb.arkanoidfx.game.physics;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+import org.overb.arkanoidfx.enums.Axis;
+import org.overb.arkanoidfx.enums.EntityType;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// The substep kernel of the ball sweep must not allocate: every candidate box goes through the slab test
+// and the earliest impact lands in a reused hit record, measured with the allocation counter of this thread.
+class SweepAllocationTest {
+
+    private static final int COLS = 24;
+    private static final int ROWS = 12;
+    private static final double CELL_W = 80;
+    private static final double CELL_H = 30;
+    private static final int WARMUP_SWEEPS = 200_000;
+    private static final int MEASURED_SWEEPS = 50_000;
+
+    private final SweepHit hit = new SweepHit();
+    private int hits;
+    private int horizontalBounces;
+
+    @Test
+    void substepSweepAllocatesNothing() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        sweeps(WARMUP_SWEEPS);
+        hits = 0;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        sweeps(MEASURED_SWEEPS);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        assertTrue(hits > 0);
+        assertEquals(0L, allocated);
+    }
+
+    // balls below the bricks, aimed upwards at a spread of angles
+    private void sweeps(int count) {
+        double arenaW = COLS * CELL_W;
+        for (int i = 0; i < count; i++) {
+            double angle = Math.toRadians(-80.0 + 160.0 * (i % 97) / 96.0);
+            double cx = 20 + (i * 37 % (int) (arenaW - 40));
+            double cy = ROWS * CELL_H + 40 + (i % 13) * 5;
+            double dirX = Math.sin(angle);
+            double dirY = -Math.cos(angle);
+            sweep(cx, cy, dirX, dirY, 10, 200);
+            if (hit.isHit()) {
+                hits++;
+                Axis axis = SweepMath.chooseBounceAxisCircleRect(cx + dirX * hit.distance, cy + dirY * hit.distance,
+                        hit.minX, hit.minY, hit.maxX, hit.maxY);
+                if (axis == Axis.HORIZONTAL) {
+                    horizontalBounces++;
+                }
+            }
+        }
+    }
+
+    private void sweep(double cx, double cy, double dirX, double dirY, double r, double maxDistance) {
+        hit.reset();
+        for (int row = 0; row < ROWS; row++) {
+            for (int col = 0; col < COLS; col++) {
+                double minX = col * CELL_W;
+                double minY = row * CELL_H;
+                double distance = SweepMath.sweepCircleAgainstAABB(cx, cy, dirX, dirY, r, minX, minY, minX + CELL_W, minY + CELL_H);
+                if (distance <= maxDistance && distance < hit.distance) {
+                    hit.set(distance, EntityType.BRICK, null, minX, minY, minX + CELL_W, minY + CELL_H);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.overb.arkanoidfx.game.sim;
+
+import org.junit.jupiter.api.Test;
+import org.overb.arkanoidfx.entities.EntityRepository;
+import org.overb.arkanoidfx.game.loaders.DefinitionsLoader;
+import org.overb.arkanoidfx.game.loaders.LevelLoader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The headless simulation runs the real game rules without a stage, so a seed has to replay the same game.
+class SimulationTest {
+
+    private static final double TICK = 1.0 / 120.0;
+    private static final int TICKS = 20_000;
+
+    @Test
+    void sameSeedPlaysTheSameGame() throws Exception {
+        Simulation first = play(42L);
+        Simulation second = play(42L);
+        assertEquals(first.getTicks(), second.getTicks());
+        assertEquals(first.getBricksDestroyed(), second.getBricksDestroyed());
+        assertEquals(first.getPaddleHits(), second.getPaddleHits());
+        assertEquals(first.getSurprisesSpawned(), second.getSurprisesSpawned());
+        assertEquals(first.getSession().getScoreRounded(), second.getSession().getScoreRounded());
+    }
+
+    @Test
+    void botPaddleDestroysBricks() throws Exception {
+        Simulation simulation = play(7L);
+        assertTrue(simulation.getPaddleHits() > 0);
+        assertTrue(simulation.getBricksDestroyed() > 0);
+    }
+
+    private static Simulation play(long seed) throws Exception {
+        EntityRepository repository = DefinitionsLoader.fromClasspath().loadAll();
+        LevelLoader levels = new LevelLoader();
+        Simulation simulation = new Simulation(repository, seed);
+        simulation.loadLevel(levels.loadLevel(levels.loadLevelOrder().getFirst()));
+        try {
+            for (int tick = 0; tick < TICKS && !simulation.isFinished(); tick++) {
+                simulation.step(TICK);
+            }
+        } finally {
+            simulation.dispose();
+        }
+        return simulation;
+    }
+}
@@ -0,0 +1,81 @@
+package org.overb.arkanoidfx.game.world;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
+import com.almasb.fxgl.entity.component.Component;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// A pooled entity is only handed out again once the world has cleaned it up, otherwise an entity removed
+// and obtained in the same frame sits twice in the world's update list and is updated twice per frame.
+class EntityPoolTest {
+
+    private static final double FRAME = 1.0 / 60.0;
+
+    private final GameWorld world = new GameWorld();
+    private final EntityPool pool = new EntityPool("test", 4);
+
+    @Test
+    void entityRemovedAndObtainedInTheSameFrameIsUpdatedOnce() {
+        Entity first = pool.obtain(EntityPoolTest::build);
+        world.addEntity(first);
+        world.onUpdate(FRAME);
+
+        world.removeEntity(first);
+        Entity second = pool.obtain(EntityPoolTest::build);
+        world.addEntity(second);
+        world.onUpdate(FRAME);
+        world.onUpdate(FRAME);
+
+        assertTrue(first != second);
+        assertEquals(1, first.getComponent(UpdateCounter.class).updates);
+        assertEquals(2, second.getComponent(UpdateCounter.class).updates);
+    }
+
+    @Test
+    void entityIsReusedOnceTheWorldCleanedItUp() {
+        Entity first = pool.obtain(EntityPoolTest::build);
+        world.addEntity(first);
+        world.onUpdate(FRAME);
+        world.removeEntity(first);
+        world.onUpdate(FRAME);
+
+        Entity second = pool.obtain(EntityPoolTest::build);
+        world.addEntity(second);
+        world.onUpdate(FRAME);
+
+        assertTrue(first == second);
+        assertEquals(2, second.getComponent(UpdateCounter.class).updates);
+        assertEquals(2, second.getComponent(UpdateCounter.class).acquired);
+        assertEquals(1, second.getComponent(UpdateCounter.class).released);
+    }
+
+    private static Entity build() {
+        Entity entity = new Entity();
+        entity.addComponent(new UpdateCounter());
+        return entity;
+    }
+
+    private static final class UpdateCounter extends Component implements PooledComponent {
+        private int updates;
+        private int acquired;
+        private int released;
+
+        @Override
+        public void onUpdate(double tpf) {
+            updates++;
+        }
+
+        @Override
+        public void onAcquired() {
+            acquired++;
+        }
+
+        @Override
+        public void onReleased() {
+            released++;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.overb.arkanoidfx.game.physics;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Same slab test as SweepMath.sweepCircleAgainstAABB, several boxes per instruction.
+// Only loaded through BatchSweep.load(), so the game still starts without the incubator module.
+final class VectorBatchSweep implements BatchSweep {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final double EPS = 1e-8;
+
+    @Override
+    public int earliest(double cx, double cy, double dirX, double dirY, double r, double maxDistance,
+                        double[] minX, double[] minY, double[] maxX, double[] maxY, int from, int to) {
+        boolean flatX = Math.abs(dirX) < EPS;
+        boolean flatY = Math.abs(dirY) < EPS;
+        int bestIndex = -1;
+        double best = SweepMath.MISS;
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector eMinX = DoubleVector.fromArray(SPECIES, minX, i).sub(r);
+            DoubleVector eMaxX = DoubleVector.fromArray(SPECIES, maxX, i).add(r);
+            DoubleVector eMinY = DoubleVector.fromArray(SPECIES, minY, i).sub(r);
+            DoubleVector eMaxY = DoubleVector.fromArray(SPECIES, maxY, i).add(r);
+            VectorMask<Double> valid = SPECIES.maskAll(true);
+            DoubleVector tEnter;
+            DoubleVector tExit;
+            if (flatX) {
+                valid = valid.andNot(eMinX.compare(VectorOperators.GT, cx)).andNot(eMaxX.compare(VectorOperators.LT, cx));
+                tEnter = DoubleVector.broadcast(SPECIES, Double.NEGATIVE_INFINITY);
+                tExit = DoubleVector.broadcast(SPECIES, Double.POSITIVE_INFINITY);
+            } else {
+                DoubleVector tx1 = eMinX.sub(cx).div(dirX);
+                DoubleVector tx2 = eMaxX.sub(cx).div(dirX);
+                tEnter = tx1.min(tx2);
+                tExit = tx1.max(tx2);
+            }
+            if (flatY) {
+                valid = valid.andNot(eMinY.compare(VectorOperators.GT, cy)).andNot(eMaxY.compare(VectorOperators.LT, cy));
+            } else {
+                DoubleVector ty1 = eMinY.sub(cy).div(dirY);
+                DoubleVector ty2 = eMaxY.sub(cy).div(dirY);
+                tEnter = tEnter.max(ty1.min(ty2));
+                tExit = tExit.min(ty1.max(ty2));
+            }
+            valid = valid.andNot(tExit.compare(VectorOperators.LT, 0.0)).andNot(tEnter.compare(VectorOperators.GT, tExit));
+            DoubleVector distance = tEnter.max(0.0);
+            valid = valid.and(distance.compare(VectorOperators.LE, maxDistance)).and(distance.compare(VectorOperators.LT, best));
+            if (!valid.anyTrue()) {
+                continue;
+            }
+            // rare: walk the improving lanes in order so that ties keep the lowest index
+            for (int lane = 0; lane < SPECIES.length(); lane++) {
+                if (valid.laneIsSet(lane)) {
+                    double d = distance.lane(lane);
+                    if (d < best) {
+                        best = d;
+                        bestIndex = i + lane;
+                    }
+                }
+            }
+        }
+        // scalar tail, row segments are often shorter than a vector
+        for (; i < to; i++) {
+            double d = SweepMath.sweepCircleAgainstAABB(cx, cy, dirX, dirY, r, minX[i], minY[i], maxX[i], maxY[i]);
+            if (d <= maxDistance && d < best) {
+                best = d;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+}